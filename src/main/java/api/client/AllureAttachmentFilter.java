@@ -0,0 +1,257 @@
+package api.client;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.attachment.AttachmentContent;
+import io.qameta.allure.attachment.AttachmentData;
+import io.qameta.allure.attachment.AttachmentRenderer;
+import io.qameta.allure.attachment.DefaultAttachmentProcessor;
+import io.qameta.allure.attachment.FreemarkerAttachmentRenderer;
+import io.qameta.allure.attachment.http.HttpRequestAttachment;
+import io.qameta.allure.attachment.http.HttpResponseAttachment;
+import io.qameta.allure.model.Attachment;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.internal.NameAndValue;
+import io.restassured.internal.support.Prettifier;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * REST Assured filter attaching HTTP exchanges to the Allure report.
+ * Replacement for {@code AllureRestAssured} that renders the same request/response attachments,
+ * but only for the exchanges selected by an {@link AllureAttachmentMode} and with bodies capped
+ * to a maximum length. Exchanges that are not selected cost no rendering at all.
+ * <p>
+ * Attachments go to the test case or step running on the current thread, unless the request is sent through
+ * {@link #boundTo(Owner, Supplier)} from another thread on behalf of a test.
+ */
+public final class AllureAttachmentFilter implements OrderedFilter {
+
+    private static final AttachmentRenderer<AttachmentData> REQUEST_RENDERER =
+            new FreemarkerAttachmentRenderer("http-request.ftl");
+    private static final AttachmentRenderer<AttachmentData> RESPONSE_RENDERER =
+            new FreemarkerAttachmentRenderer("http-response.ftl");
+
+    private static final ThreadLocal<Owner> BOUND_OWNER = new ThreadLocal<>();
+
+    private final AllureAttachmentMode mode;
+    private final int sampleRate;
+    private final int maxBodyLength;
+    private final AtomicLong exchangeCounter = new AtomicLong();
+
+    /**
+     * Creates a new Allure attachment filter.
+     *
+     * @param mode the attachment mode
+     * @param sampleRate attach one in this many exchanges in {@link AllureAttachmentMode#SAMPLED} mode
+     * @param maxBodyLength the maximum number of body characters per attachment, negative for no limit
+     */
+    public AllureAttachmentFilter(final AllureAttachmentMode mode, final int sampleRate, final int maxBodyLength) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("sampleRate must be positive: " + sampleRate);
+        }
+        this.mode = mode;
+        this.sampleRate = sampleRate;
+        this.maxBodyLength = maxBodyLength;
+    }
+
+    @Override
+    public Response filter(final FilterableRequestSpecification requestSpec,
+                           final FilterableResponseSpecification responseSpec,
+                           final FilterContext ctx) {
+        boolean sampled = isSampled();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            if (sampled || mode == AllureAttachmentMode.FAILURES_ONLY) {
+                attachRequest(requestSpec);
+            }
+            throw e;
+        }
+
+        if (sampled || (mode == AllureAttachmentMode.FAILURES_ONLY && response.getStatusCode() >= 400)) {
+            attachRequest(requestSpec);
+            attachResponse(requestSpec, response);
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * Attaches an exchange sent without REST Assured, e.g. by {@link AsyncRestClient}, as this filter would have.
+     * Its response may complete on any thread, so the attachments go to the test case or step that was current
+     * when the request was sent rather than to the current one of the completing thread.
+     *
+     * @param owner the test case or step the request was sent from, see {@link Owner#current()}
+     * @param sampled whether the exchange was sampled when the request was sent, see {@link #isSampled()}
+     * @param method the request method
+     * @param uri the request URI
+     * @param requestHeaders the request headers
+     * @param requestBody the request body, may be null
+     * @param response the response, or null if no response was received
+     */
+    void attachExchange(final Owner owner, final boolean sampled, final String method, final String uri,
+                        final Map<String, String> requestHeaders, final String requestBody, final Response response) {
+        boolean failed = response == null || response.getStatusCode() >= 400;
+        if (owner == null || !(sampled || (mode == AllureAttachmentMode.FAILURES_ONLY && failed))) {
+            return;
+        }
+        HttpRequestAttachment.Builder request = HttpRequestAttachment.Builder.create("Request", uri)
+                .setMethod(method)
+                .setHeaders(requestHeaders);
+        if (requestBody != null) {
+            request.setBody(LoggingFilter.truncate(requestBody, maxBodyLength));
+        }
+        owner.add("Request", REQUEST_RENDERER.render(request.build()));
+        if (response != null) {
+            String name = response.getStatusLine() != null ? response.getStatusLine() : "HTTP Response";
+            owner.add(name, RESPONSE_RENDERER.render(HttpResponseAttachment.Builder.create(name)
+                    .setUrl(uri)
+                    .setResponseCode(response.getStatusCode())
+                    .setHeaders(toMap(response.getHeaders()))
+                    .setBody(LoggingFilter.truncate(response.getBody().asString(), maxBodyLength))
+                    .build()));
+        }
+    }
+
+    /**
+     * Wraps a call so that the exchanges it sends through this filter are attached to the given test case or step,
+     * on whichever thread the call runs.
+     *
+     * @param owner the test case or step to attach to, see {@link Owner#current()}; null attaches nothing
+     * @param call the call
+     * @param <T> the result type of the call
+     * @return the wrapped call
+     */
+    static <T> Supplier<T> boundTo(final Owner owner, final Supplier<T> call) {
+        return () -> {
+            Owner previous = BOUND_OWNER.get();
+            BOUND_OWNER.set(owner == null ? Owner.NONE : owner);
+            try {
+                return call.get();
+            } finally {
+                if (previous == null) {
+                    BOUND_OWNER.remove();
+                } else {
+                    BOUND_OWNER.set(previous);
+                }
+            }
+        };
+    }
+
+    boolean isSampled() {
+        switch (mode) {
+            case ALWAYS:
+                return true;
+            case SAMPLED:
+                return exchangeCounter.getAndIncrement() % sampleRate == 0;
+            default:
+                return false;
+        }
+    }
+
+    private void attachRequest(final FilterableRequestSpecification requestSpec) {
+        Owner owner = BOUND_OWNER.get();
+        if (owner == Owner.NONE) {
+            return;
+        }
+        HttpRequestAttachment.Builder attachment = HttpRequestAttachment.Builder.create("Request", requestSpec.getURI())
+                .setMethod(requestSpec.getMethod())
+                .setHeaders(toMap(requestSpec.getHeaders()))
+                .setCookies(toMap(requestSpec.getCookies()));
+        if (requestSpec.getBody() != null) {
+            attachment.setBody(LoggingFilter.truncate(new Prettifier().getPrettifiedBodyIfPossible(requestSpec),
+                    maxBodyLength));
+        }
+        if (owner != null) {
+            owner.add("Request", REQUEST_RENDERER.render(attachment.build()));
+        } else {
+            new DefaultAttachmentProcessor().addAttachment(attachment.build(), REQUEST_RENDERER);
+        }
+    }
+
+    private void attachResponse(final FilterableRequestSpecification requestSpec, final Response response) {
+        Owner owner = BOUND_OWNER.get();
+        if (owner == Owner.NONE) {
+            return;
+        }
+        String name = response.getStatusLine() != null ? response.getStatusLine() : "HTTP Response";
+        HttpResponseAttachment attachment = HttpResponseAttachment.Builder.create(name)
+                .setUrl(requestSpec.getURI())
+                .setResponseCode(response.getStatusCode())
+                .setHeaders(toMap(response.getHeaders()))
+                .setBody(LoggingFilter.truncate(new Prettifier().getPrettifiedBodyIfPossible(response, response.getBody()),
+                        maxBodyLength))
+                .build();
+        if (owner != null) {
+            owner.add(name, RESPONSE_RENDERER.render(attachment));
+        } else {
+            new DefaultAttachmentProcessor().addAttachment(attachment, RESPONSE_RENDERER);
+        }
+    }
+
+    private static Map<String, String> toMap(final Iterable<? extends NameAndValue> items) {
+        Map<String, String> result = new HashMap<>();
+        items.forEach(item -> result.put(item.getName(), item.getValue()));
+        return result;
+    }
+
+    /**
+     * Test case or step of the Allure report that attachments are added to, independent of the current thread.
+     */
+    static final class Owner {
+
+        /**
+         * Bound in place of a missing owner, so that a call sent on behalf of no test attaches nothing.
+         */
+        private static final Owner NONE = new Owner(null, false);
+
+        private final String uuid;
+        private final boolean step;
+
+        private Owner(final String uuid, final boolean step) {
+            this.uuid = uuid;
+            this.step = step;
+        }
+
+        /**
+         * Gets the test case or step running on the current thread.
+         *
+         * @return the owner, or null if no test is running, in which case nothing should be attached
+         */
+        static Owner current() {
+            AllureLifecycle lifecycle = Allure.getLifecycle();
+            Optional<String> uuid = lifecycle.getCurrentTestCaseOrStep();
+            return uuid.map(value -> new Owner(value, !uuid.equals(lifecycle.getCurrentTestCase()))).orElse(null);
+        }
+
+        private void add(final String name, final AttachmentContent content) {
+            AllureLifecycle lifecycle = Allure.getLifecycle();
+            String source = UUID.randomUUID() + "-attachment" + content.getFileExtension();
+            lifecycle.writeAttachment(source,
+                    new ByteArrayInputStream(content.getContent().getBytes(StandardCharsets.UTF_8)));
+            Attachment attachment = new Attachment().setName(name).setType(content.getContentType()).setSource(source);
+            if (step) {
+                lifecycle.updateStep(uuid, result -> result.getAttachments().add(attachment));
+            } else {
+                lifecycle.updateTestCase(uuid, result -> result.getAttachments().add(attachment));
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package api.client;
+
+/**
+ * Mode deciding which HTTP exchanges are attached to the Allure report.
+ */
+public enum AllureAttachmentMode {
+
+    /** Every exchange is attached. */
+    ALWAYS,
+
+    /** Only exchanges with a 4xx or 5xx status code, or that failed without a response, are attached. */
+    FAILURES_ONLY,
+
+    /** One in every N exchanges is attached, see {@link Configuration#getAllureSampleRate()}. */
+    SAMPLED,
+
+    /** Nothing is attached and the Allure filter is not registered at all. */
+    OFF
+}
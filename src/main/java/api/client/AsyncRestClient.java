@@ -0,0 +1,370 @@
+package api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Abstract base class for non-blocking REST API clients.
+ * Sibling of {@link RestClient} that sends requests through a shared, keep-alive
+ * {@link HttpClient} and completes with the same {@link ResponseWrapper} type,
+ * so callers can keep using the existing assertions.
+ * <p>
+ * Requests go through the same stages as the filters of {@link RestClient}, in the same order: the {@link Throttle},
+ * logging, Allure attachments, {@link RequestMetrics} and exchange recording or replay. A throttled request waits for
+ * its permits on a pool of waiter threads, never on the sending thread; the other stages run when the response
+ * arrives. Every request times out after the configured request timeout. Streamed responses are throttled and
+ * measured up to their headers, but neither logged nor attached, since their body is never buffered.
+ */
+public abstract class AsyncRestClient {
+
+    private static final Logger LOGGER = LogManager.getLogger(AsyncRestClient.class);
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * Single HTTP engine shared by all async clients so that connections to the same
+     * host are pooled and kept alive across client instances.
+     */
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(CONNECT_TIMEOUT)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+    private static final AtomicInteger throttleThreadIds = new AtomicInteger();
+
+    /**
+     * Threads that wait for throttle permits on behalf of the callers; the sends themselves stay non-blocking.
+     */
+    private static final ExecutorService THROTTLE_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "async-throttle-" + throttleThreadIds.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    protected final Configuration configuration;
+    private final URI baseUri;
+    private final LoggingFilter loggingFilter;
+    private final AllureAttachmentFilter allureFilter;
+    private final RequestMetrics metrics;
+    private final Throttle throttle;
+    private final ExchangeFilter exchangeFilter;
+
+    /**
+     * Abstract method to provide default configuration for the client.
+     *
+     * @return the default configuration
+     */
+    protected abstract Configuration defaultConfiguration();
+
+    /**
+     * Constructor that initializes the async REST client with the default configuration.
+     */
+    protected AsyncRestClient() {
+        this(null);
+    }
+
+    /**
+     * Constructor that initializes the async REST client with the given configuration.
+     *
+     * @param configuration the configuration, or null to use {@link #defaultConfiguration()}
+     */
+    protected AsyncRestClient(final Configuration configuration) {
+        this.configuration = configuration != null ? configuration : defaultConfiguration();
+        this.baseUri = URI.create(this.configuration.getServicePath());
+        this.loggingFilter = new LoggingFilter(this.configuration.getLogPolicy(),
+                this.configuration.getMaxLoggedBodyLength());
+        this.allureFilter = this.configuration.getAllureAttachmentMode() != AllureAttachmentMode.OFF
+                ? new AllureAttachmentFilter(this.configuration.getAllureAttachmentMode(),
+                        this.configuration.getAllureSampleRate(), this.configuration.getMaxAttachmentBodyLength())
+                : null;
+        this.metrics = this.configuration.isMetricsEnabled() ? RequestMetrics.getInstance() : null;
+        this.throttle = Throttle.of(this.configuration);
+        this.exchangeFilter = ExchangeFilter.of(this.configuration);
+        LOGGER.info("AsyncRestClient initialized with service path: {}", this.configuration.getServicePath());
+    }
+
+    /**
+     * Creates a request builder for the given path with the configured content type and headers applied.
+     *
+     * @param path the path relative to the service path, may contain a query string
+     * @return the request builder
+     */
+    protected HttpRequest.Builder newRequest(final String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", configuration.getContentType());
+        if (configuration.getRequestTimeoutMillis() > 0) {
+            builder.timeout(Duration.ofMillis(configuration.getRequestTimeoutMillis()));
+        }
+        configuration.getHeaders().forEach(builder::header);
+        return builder;
+    }
+
+    /**
+     * Sends a request asynchronously.
+     *
+     * @param method the request method
+     * @param pathTemplate the path template the request was built from, e.g. {@code /player/delete/{editor}/{id}},
+     *                     which identifies its endpoint for throttling and metrics
+     * @param requestBuilder the request builder from {@link #newRequest(String)}
+     * @param body the object to send as JSON body, or null to send no body
+     * @return a future completed with the wrapped response
+     */
+    protected CompletableFuture<ResponseWrapper> sendAsync(final String method, final String pathTemplate,
+                                                           final HttpRequest.Builder requestBuilder, final Object body) {
+        byte[] bodyBytes = body != null ? toJson(body) : null;
+        HttpRequest request = requestBuilder
+                .method(method, bodyBytes != null ? HttpRequest.BodyPublishers.ofByteArray(bodyBytes)
+                        : HttpRequest.BodyPublishers.noBody())
+                .build();
+        LOGGER.debug("Sending async request: {} {}", method, request.uri());
+        AllureAttachmentFilter.Owner owner = allureFilter != null ? AllureAttachmentFilter.Owner.current() : null;
+        boolean sampled = owner != null && allureFilter.isSampled();
+
+        return exchange(method, pathTemplate, () -> roundTrip(method, pathTemplate, request, bodyBytes),
+                Response::getStatusCode)
+                .handle((response, failure) -> {
+                    if (response != null) {
+                        loggingFilter.logExchange(method, request.uri().toString(),
+                                () -> toHeaders(request.headers().map()), bodyAsString(bodyBytes), response);
+                    }
+                    if (owner != null) {
+                        allureFilter.attachExchange(owner, sampled, method, request.uri().toString(),
+                                toHeaderMap(request.headers().map()), bodyAsString(bodyBytes), response);
+                    }
+                    if (failure != null) {
+                        throw failure instanceof CompletionException ? (CompletionException) failure
+                                : new CompletionException(failure);
+                    }
+                    return new ResponseWrapper(response);
+                });
+    }
+
+    /**
+     * Sends a GET request asynchronously and streams the elements of an array field of the response body
+     * straight from the connection, without buffering the body.
+     * The returned stream must be closed to release the connection.
+     * <p>
+     * When exchanges are recorded or replayed, the body is buffered like any other and streamed from memory.
+     *
+     * @param pathTemplate the path template the request was built from
+     * @param requestBuilder the request builder from {@link #newRequest(String)}
+     * @param expectedStatusCode the expected status code
+     * @param fieldName the name of the array field
+     * @param elementClass the element class
+     * @param <T> the element type
+     * @return a future completed with a lazy stream of the elements
+     */
+    protected <T> CompletableFuture<Stream<T>> streamArrayAsync(final String pathTemplate,
+                                                                final HttpRequest.Builder requestBuilder,
+                                                                final int expectedStatusCode, final String fieldName,
+                                                                final Class<T> elementClass) {
+        if (exchangeFilter != null) {
+            return sendAsync("GET", pathTemplate, requestBuilder, null)
+                    .thenApply(response -> response.expectingStatusCode(expectedStatusCode)
+                            .streamArray(fieldName, elementClass));
+        }
+        HttpRequest request = requestBuilder.GET().build();
+        LOGGER.debug("Sending async streaming request: {} {}", request.method(), request.uri());
+        return exchange("GET", pathTemplate,
+                () -> HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream()), HttpResponse::statusCode)
+                .thenApply(httpResponse -> {
+                    if (httpResponse.statusCode() != expectedStatusCode) {
+                        closeQuietly(httpResponse.body());
+                        throw new AssertionError(String.format("Response status code differs. Expected: %d, Actual: %d",
+                                expectedStatusCode, httpResponse.statusCode()));
+                    }
+                    return JsonSupport.streamArrayField(httpResponse.body(), fieldName, elementClass);
+                });
+    }
+
+    /**
+     * Sends a request once the throttle lets it through and records its latency and outcome, like
+     * {@link ThrottlingFilter} and {@link MetricsFilter} do for {@link RestClient}.
+     */
+    private <T> CompletableFuture<T> exchange(final String method, final String pathTemplate,
+                                              final Supplier<CompletableFuture<T>> send,
+                                              final ToIntFunction<T> statusCode) {
+        if (throttle == null) {
+            return measure(method, pathTemplate, send, statusCode);
+        }
+        String endpoint = method + " " + pathTemplate;
+        return throttle.acquireAsync(endpoint, THROTTLE_EXECUTOR).thenCompose(waitNanos -> {
+            if (metrics != null) {
+                metrics.endpoint(method, pathTemplate).recordThrottleWait(waitNanos);
+            }
+            CompletableFuture<T> future;
+            try {
+                future = measure(method, pathTemplate, send, statusCode);
+            } catch (RuntimeException e) {
+                throttle.release(endpoint);
+                throw e;
+            }
+            return future.whenComplete((response, failure) -> throttle.release(endpoint));
+        });
+    }
+
+    private <T> CompletableFuture<T> measure(final String method, final String pathTemplate,
+                                             final Supplier<CompletableFuture<T>> send,
+                                             final ToIntFunction<T> statusCode) {
+        RequestMetrics.Endpoint endpointMetrics = metrics != null ? metrics.endpoint(method, pathTemplate) : null;
+        long start = System.nanoTime();
+        CompletableFuture<T> future = send.get();
+        if (endpointMetrics == null) {
+            return future;
+        }
+        return future.whenComplete((response, failure) -> endpointMetrics.record(System.nanoTime() - start,
+                response != null ? statusCode.applyAsInt(response) : RequestMetrics.Endpoint.TRANSPORT_ERROR));
+    }
+
+    /**
+     * Sends a request, or answers it from the exchange log, and records the exchange when recording,
+     * like {@link ExchangeFilter} does for {@link RestClient}.
+     */
+    private CompletableFuture<Response> roundTrip(final String method, final String pathTemplate,
+                                                  final HttpRequest request, final byte[] body) {
+        if (exchangeFilter == null) {
+            return HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .thenApply(AsyncRestClient::toResponse);
+        }
+        String endpoint = method + " " + pathTemplate;
+        String key = ExchangeFilter.key(request.uri().getPath(), queryParams(request.uri()), Collections.emptyMap(),
+                toHeaderMap(request.headers().map()), bodyAsString(body));
+        if (exchangeFilter.isReplaying()) {
+            try {
+                return CompletableFuture.completedFuture(exchangeFilter.replay(endpoint, key));
+            } catch (IllegalStateException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(httpResponse -> exchangeFilter.record(endpoint, key, toResponse(httpResponse)));
+    }
+
+    /**
+     * Gets the client-side rate and concurrency limits of this client, e.g. to report how long requests waited.
+     *
+     * @return the throttle, or null if the configuration sets no limits
+     */
+    public Throttle getThrottle() {
+        return throttle;
+    }
+
+    /**
+     * Encodes query parameters into a query string, skipping null values.
+     *
+     * @param queryParams the query parameters
+     * @return the query string starting with '?', or an empty string if there are no parameters
+     */
+    protected static String queryString(final Map<String, ?> queryParams) {
+        StringBuilder query = new StringBuilder();
+        queryParams.forEach((name, value) -> {
+            if (value != null) {
+                query.append(query.length() == 0 ? '?' : '&')
+                        .append(URLEncoder.encode(name, StandardCharsets.UTF_8))
+                        .append('=')
+                        .append(URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8));
+            }
+        });
+        return query.toString();
+    }
+
+    /**
+     * Encodes a single path segment.
+     *
+     * @param value the segment value
+     * @return the encoded segment
+     */
+    protected static String pathSegment(final Object value) {
+        return URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    /**
+     * Adapts a JDK HTTP response to a REST Assured response.
+     *
+     * @param httpResponse the JDK response
+     * @return the REST Assured response
+     */
+    private static Response toResponse(final HttpResponse<byte[]> httpResponse) {
+        return new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setStatusLine("HTTP/1.1 " + httpResponse.statusCode())
+                .setHeaders(toHeaders(httpResponse.headers().map()))
+                .setContentType(httpResponse.headers().firstValue("Content-Type").orElse(""))
+                .setBody(httpResponse.body())
+                .build();
+    }
+
+    private static Headers toHeaders(final Map<String, List<String>> headerMap) {
+        List<Header> headers = new ArrayList<>();
+        headerMap.forEach((name, values) -> values.forEach(value -> headers.add(new Header(name, value))));
+        return new Headers(headers);
+    }
+
+    private static Map<String, String> queryParams(final URI uri) {
+        Map<String, String> params = new HashMap<>();
+        if (uri.getRawQuery() != null) {
+            for (String param : uri.getRawQuery().split("&")) {
+                int separator = param.indexOf('=');
+                String name = separator < 0 ? param : param.substring(0, separator);
+                String value = separator < 0 ? "" : param.substring(separator + 1);
+                params.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                        URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static Map<String, String> toHeaderMap(final Map<String, List<String>> headerMap) {
+        Map<String, String> headers = new HashMap<>();
+        headerMap.forEach((name, values) -> headers.put(name, String.join(", ", values)));
+        return headers;
+    }
+
+    private static byte[] toJson(final Object body) {
+        try {
+            return JsonSupport.writer().writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize request body: " + body, e);
+        }
+    }
+
+    private static String bodyAsString(final byte[] body) {
+        return body != null ? new String(body, StandardCharsets.UTF_8) : null;
+    }
+
+    private static void closeQuietly(final InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to close response body", e);
+        }
+    }
+}
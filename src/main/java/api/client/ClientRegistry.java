@@ -0,0 +1,88 @@
+package api.client;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Registry of shared API clients.
+ * Hands out one client instance per client type and {@link Configuration}, so the request
+ * specification and filters of a client are built once and reused by all threads.
+ */
+public final class ClientRegistry {
+
+    private static final Logger LOGGER = LogManager.getLogger(ClientRegistry.class);
+    private static final ConcurrentMap<Key, Object> CLIENTS = new ConcurrentHashMap<>();
+
+    private ClientRegistry() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Gets the shared client for the given type and configuration, creating it on first use.
+     * The factory is invoked at most once per type and configuration, even under concurrent access.
+     *
+     * @param clientType the client class
+     * @param configuration the client configuration
+     * @param factory the factory creating a client from the configuration
+     * @param <C> the client type
+     * @return the shared client
+     */
+    public static <C> C getClient(final Class<C> clientType, final Configuration configuration,
+                                  final Function<Configuration, ? extends C> factory) {
+        Object client = CLIENTS.computeIfAbsent(new Key(clientType, configuration), key -> {
+            LOGGER.info("Creating shared {} for {}", clientType.getSimpleName(), configuration);
+            return factory.apply(configuration);
+        });
+        return clientType.cast(client);
+    }
+
+    /**
+     * Gets the shared clients of a type created so far, without creating any.
+     *
+     * @param clientType the client class
+     * @param <C> the client type
+     * @return the clients, in no particular order
+     */
+    public static <C> List<C> getClients(final Class<C> clientType) {
+        List<C> clients = new ArrayList<>();
+        CLIENTS.forEach((key, client) -> {
+            if (key.clientType.equals(clientType)) {
+                clients.add(clientType.cast(client));
+            }
+        });
+        return clients;
+    }
+
+    /**
+     * Key of a shared client.
+     */
+    private static final class Key {
+        private final Class<?> clientType;
+        private final Configuration configuration;
+
+        private Key(final Class<?> clientType, final Configuration configuration) {
+            this.clientType = clientType;
+            this.configuration = configuration;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return clientType.equals(key.clientType) && configuration.equals(key.configuration);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(clientType, configuration);
+        }
+    }
+}
@@ -18,13 +18,49 @@ public final class Configuration {
     private final String servicePath;
     private final String contentType;
     private final Map<String, String> headers;
+    private final LogPolicy logPolicy;
+    private final int maxLoggedBodyLength;
+    private final AllureAttachmentMode allureAttachmentMode;
+    private final int allureSampleRate;
+    private final int maxAttachmentBodyLength;
+    private final boolean metricsEnabled;
+    private final int cacheMaxSize;
+    private final long cacheTtlMillis;
+    private final int retryCount;
+    private final long retryBackoffMillis;
+    private final long requestTimeoutMillis;
+    private final boolean hedgingEnabled;
+    private final int maxRequestsPerSecond;
+    private final int maxInFlight;
+    private final int endpointMaxRequestsPerSecond;
+    private final int endpointMaxInFlight;
+    private final ExchangeMode exchangeMode;
+    private final String exchangeLogFile;
 
-    private Configuration(final String servicePath, final String contentType, final Map<String, String> headers) {
-        this.servicePath = servicePath;
-        this.contentType = contentType;
-        this.headers = headers != null ? Collections.unmodifiableMap(headers) : Collections.emptyMap();
-        LOGGER.debug("Configuration created: servicePath={}, contentType={}, headersCount={}", 
-                    servicePath, contentType, this.headers.size());
+    private Configuration(final Builder builder) {
+        this.servicePath = builder.servicePath;
+        this.contentType = builder.contentType;
+        this.headers = builder.headers != null ? Collections.unmodifiableMap(builder.headers) : Collections.emptyMap();
+        this.logPolicy = builder.logPolicy;
+        this.maxLoggedBodyLength = builder.maxLoggedBodyLength;
+        this.allureAttachmentMode = builder.allureAttachmentMode;
+        this.allureSampleRate = builder.allureSampleRate;
+        this.maxAttachmentBodyLength = builder.maxAttachmentBodyLength;
+        this.metricsEnabled = builder.metricsEnabled;
+        this.cacheMaxSize = builder.cacheMaxSize;
+        this.cacheTtlMillis = builder.cacheTtlMillis;
+        this.retryCount = builder.retryCount;
+        this.retryBackoffMillis = builder.retryBackoffMillis;
+        this.requestTimeoutMillis = builder.requestTimeoutMillis;
+        this.hedgingEnabled = builder.hedgingEnabled;
+        this.maxRequestsPerSecond = builder.maxRequestsPerSecond;
+        this.maxInFlight = builder.maxInFlight;
+        this.endpointMaxRequestsPerSecond = builder.endpointMaxRequestsPerSecond;
+        this.endpointMaxInFlight = builder.endpointMaxInFlight;
+        this.exchangeMode = builder.exchangeMode;
+        this.exchangeLogFile = builder.exchangeLogFile;
+        LOGGER.debug("Configuration created: servicePath={}, contentType={}, headersCount={}, logPolicy={}", 
+                    servicePath, contentType, this.headers.size(), logPolicy);
     }
 
     public String getServicePath() {
@@ -39,6 +75,158 @@ public final class Configuration {
         return headers;
     }
 
+    public LogPolicy getLogPolicy() {
+        return logPolicy;
+    }
+
+    /**
+     * Gets the maximum number of body characters written to the log per request or response.
+     *
+     * @return the maximum length, negative for no limit
+     */
+    public int getMaxLoggedBodyLength() {
+        return maxLoggedBodyLength;
+    }
+
+    public AllureAttachmentMode getAllureAttachmentMode() {
+        return allureAttachmentMode;
+    }
+
+    /**
+     * Gets the sampling rate used in {@link AllureAttachmentMode#SAMPLED} mode.
+     *
+     * @return N, meaning one in every N exchanges is attached
+     */
+    public int getAllureSampleRate() {
+        return allureSampleRate;
+    }
+
+    /**
+     * Gets the maximum number of body characters per Allure attachment.
+     *
+     * @return the maximum length, negative for no limit
+     */
+    public int getMaxAttachmentBodyLength() {
+        return maxAttachmentBodyLength;
+    }
+
+    /**
+     * Checks whether the client records per-endpoint latency and outcomes into {@link RequestMetrics}.
+     *
+     * @return true if metrics are recorded
+     */
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    /**
+     * Gets the maximum number of read responses a client caches, see {@link ResponseCache}.
+     *
+     * @return the maximum cache size, 0 if responses are not cached
+     */
+    public int getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+
+    /**
+     * Gets the time to live of cached read responses.
+     *
+     * @return the time to live in milliseconds
+     */
+    public long getCacheTtlMillis() {
+        return cacheTtlMillis;
+    }
+
+    /**
+     * Gets the number of times a failed idempotent call is retried, see {@link ResilientCallExecutor}.
+     *
+     * @return the retry count, 0 for no retries
+     */
+    public int getRetryCount() {
+        return retryCount;
+    }
+
+    /**
+     * Gets the base delay of the exponential backoff between retries.
+     *
+     * @return the base delay in milliseconds
+     */
+    public long getRetryBackoffMillis() {
+        return retryBackoffMillis;
+    }
+
+    /**
+     * Gets the connect and read timeout of a single request.
+     *
+     * @return the timeout in milliseconds, 0 for no timeout
+     */
+    public long getRequestTimeoutMillis() {
+        return requestTimeoutMillis;
+    }
+
+    /**
+     * Checks whether idempotent calls send a second request once the first is slower than the usual p95 latency.
+     *
+     * @return true if calls are hedged
+     */
+    public boolean isHedgingEnabled() {
+        return hedgingEnabled;
+    }
+
+    /**
+     * Gets the maximum rate of all requests of a client, see {@link Throttle}.
+     *
+     * @return the requests per second, 0 for no limit
+     */
+    public int getMaxRequestsPerSecond() {
+        return maxRequestsPerSecond;
+    }
+
+    /**
+     * Gets the maximum number of concurrent requests of a client.
+     *
+     * @return the maximum in-flight requests, 0 for no limit
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Gets the maximum rate of requests to each endpoint.
+     *
+     * @return the requests per second per endpoint, 0 for no limit
+     */
+    public int getEndpointMaxRequestsPerSecond() {
+        return endpointMaxRequestsPerSecond;
+    }
+
+    /**
+     * Gets the maximum number of concurrent requests to each endpoint.
+     *
+     * @return the maximum in-flight requests per endpoint, 0 for no limit
+     */
+    public int getEndpointMaxInFlight() {
+        return endpointMaxInFlight;
+    }
+
+    /**
+     * Gets whether exchanges are recorded or replayed, see {@link ExchangeFilter}.
+     *
+     * @return the exchange mode
+     */
+    public ExchangeMode getExchangeMode() {
+        return exchangeMode;
+    }
+
+    /**
+     * Gets the exchange log recorded to or replayed from.
+     *
+     * @return the exchange log path
+     */
+    public String getExchangeLogFile() {
+        return exchangeLogFile;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -46,12 +234,34 @@ public final class Configuration {
         Configuration that = (Configuration) o;
         return Objects.equals(getServicePath(), that.getServicePath()) &&
                 Objects.equals(getContentType(), that.getContentType()) &&
-                Objects.equals(getHeaders(), that.getHeaders());
+                Objects.equals(getHeaders(), that.getHeaders()) &&
+                getLogPolicy() == that.getLogPolicy() &&
+                getMaxLoggedBodyLength() == that.getMaxLoggedBodyLength() &&
+                getAllureAttachmentMode() == that.getAllureAttachmentMode() &&
+                getAllureSampleRate() == that.getAllureSampleRate() &&
+                getMaxAttachmentBodyLength() == that.getMaxAttachmentBodyLength() &&
+                isMetricsEnabled() == that.isMetricsEnabled() &&
+                getCacheMaxSize() == that.getCacheMaxSize() &&
+                getCacheTtlMillis() == that.getCacheTtlMillis() &&
+                getRetryCount() == that.getRetryCount() &&
+                getRetryBackoffMillis() == that.getRetryBackoffMillis() &&
+                getRequestTimeoutMillis() == that.getRequestTimeoutMillis() &&
+                isHedgingEnabled() == that.isHedgingEnabled() &&
+                getMaxRequestsPerSecond() == that.getMaxRequestsPerSecond() &&
+                getMaxInFlight() == that.getMaxInFlight() &&
+                getEndpointMaxRequestsPerSecond() == that.getEndpointMaxRequestsPerSecond() &&
+                getEndpointMaxInFlight() == that.getEndpointMaxInFlight() &&
+                getExchangeMode() == that.getExchangeMode() &&
+                Objects.equals(getExchangeLogFile(), that.getExchangeLogFile());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getServicePath(), getContentType(), getHeaders());
+        return Objects.hash(getServicePath(), getContentType(), getHeaders(), getLogPolicy(), getMaxLoggedBodyLength(),
+                getAllureAttachmentMode(), getAllureSampleRate(), getMaxAttachmentBodyLength(), isMetricsEnabled(),
+                getCacheMaxSize(), getCacheTtlMillis(), getRetryCount(), getRetryBackoffMillis(), getRequestTimeoutMillis(),
+                isHedgingEnabled(), getMaxRequestsPerSecond(), getMaxInFlight(), getEndpointMaxRequestsPerSecond(),
+                getEndpointMaxInFlight(), getExchangeMode(), getExchangeLogFile());
     }
 
     @Override
@@ -60,6 +270,24 @@ public final class Configuration {
                 "servicePath='" + servicePath + '\'' +
                 ", contentType='" + contentType + '\'' +
                 ", headers=" + headers +
+                ", logPolicy=" + logPolicy +
+                ", maxLoggedBodyLength=" + maxLoggedBodyLength +
+                ", allureAttachmentMode=" + allureAttachmentMode +
+                ", allureSampleRate=" + allureSampleRate +
+                ", maxAttachmentBodyLength=" + maxAttachmentBodyLength +
+                ", metricsEnabled=" + metricsEnabled +
+                ", cacheMaxSize=" + cacheMaxSize +
+                ", cacheTtlMillis=" + cacheTtlMillis +
+                ", retryCount=" + retryCount +
+                ", retryBackoffMillis=" + retryBackoffMillis +
+                ", requestTimeoutMillis=" + requestTimeoutMillis +
+                ", hedgingEnabled=" + hedgingEnabled +
+                ", maxRequestsPerSecond=" + maxRequestsPerSecond +
+                ", maxInFlight=" + maxInFlight +
+                ", endpointMaxRequestsPerSecond=" + endpointMaxRequestsPerSecond +
+                ", endpointMaxInFlight=" + endpointMaxInFlight +
+                ", exchangeMode=" + exchangeMode +
+                ", exchangeLogFile='" + exchangeLogFile + '\'' +
                 '}';
     }
 
@@ -70,6 +298,24 @@ public final class Configuration {
         private String servicePath;
         private String contentType;
         private Map<String, String> headers;
+        private LogPolicy logPolicy = LogPolicy.ALL;
+        private int maxLoggedBodyLength = -1;
+        private AllureAttachmentMode allureAttachmentMode = AllureAttachmentMode.ALWAYS;
+        private int allureSampleRate = 1;
+        private int maxAttachmentBodyLength = -1;
+        private boolean metricsEnabled;
+        private int cacheMaxSize;
+        private long cacheTtlMillis = 5_000;
+        private int retryCount;
+        private long retryBackoffMillis = 100;
+        private long requestTimeoutMillis;
+        private boolean hedgingEnabled;
+        private int maxRequestsPerSecond;
+        private int maxInFlight;
+        private int endpointMaxRequestsPerSecond;
+        private int endpointMaxInFlight;
+        private ExchangeMode exchangeMode = ExchangeMode.OFF;
+        private String exchangeLogFile;
 
         public Builder servicePath(final String servicePath) {
             this.servicePath = servicePath;
@@ -86,8 +332,98 @@ public final class Configuration {
             return this;
         }
 
+        public Builder logPolicy(final LogPolicy logPolicy) {
+            this.logPolicy = logPolicy;
+            return this;
+        }
+
+        public Builder maxLoggedBodyLength(final int maxLoggedBodyLength) {
+            this.maxLoggedBodyLength = maxLoggedBodyLength;
+            return this;
+        }
+
+        public Builder allureAttachmentMode(final AllureAttachmentMode allureAttachmentMode) {
+            this.allureAttachmentMode = allureAttachmentMode;
+            return this;
+        }
+
+        public Builder allureSampleRate(final int allureSampleRate) {
+            this.allureSampleRate = allureSampleRate;
+            return this;
+        }
+
+        public Builder maxAttachmentBodyLength(final int maxAttachmentBodyLength) {
+            this.maxAttachmentBodyLength = maxAttachmentBodyLength;
+            return this;
+        }
+
+        public Builder metricsEnabled(final boolean metricsEnabled) {
+            this.metricsEnabled = metricsEnabled;
+            return this;
+        }
+
+        public Builder cacheMaxSize(final int cacheMaxSize) {
+            this.cacheMaxSize = cacheMaxSize;
+            return this;
+        }
+
+        public Builder cacheTtlMillis(final long cacheTtlMillis) {
+            this.cacheTtlMillis = cacheTtlMillis;
+            return this;
+        }
+
+        public Builder retryCount(final int retryCount) {
+            this.retryCount = retryCount;
+            return this;
+        }
+
+        public Builder retryBackoffMillis(final long retryBackoffMillis) {
+            this.retryBackoffMillis = retryBackoffMillis;
+            return this;
+        }
+
+        public Builder requestTimeoutMillis(final long requestTimeoutMillis) {
+            this.requestTimeoutMillis = requestTimeoutMillis;
+            return this;
+        }
+
+        public Builder hedgingEnabled(final boolean hedgingEnabled) {
+            this.hedgingEnabled = hedgingEnabled;
+            return this;
+        }
+
+        public Builder maxRequestsPerSecond(final int maxRequestsPerSecond) {
+            this.maxRequestsPerSecond = maxRequestsPerSecond;
+            return this;
+        }
+
+        public Builder maxInFlight(final int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public Builder endpointMaxRequestsPerSecond(final int endpointMaxRequestsPerSecond) {
+            this.endpointMaxRequestsPerSecond = endpointMaxRequestsPerSecond;
+            return this;
+        }
+
+        public Builder endpointMaxInFlight(final int endpointMaxInFlight) {
+            this.endpointMaxInFlight = endpointMaxInFlight;
+            return this;
+        }
+
+        public Builder exchangeMode(final ExchangeMode exchangeMode) {
+            this.exchangeMode = exchangeMode;
+            return this;
+        }
+
+        public Builder exchangeLogFile(final String exchangeLogFile) {
+            this.exchangeLogFile = exchangeLogFile;
+            return this;
+        }
+
         public Configuration build() {
-            return new Configuration(servicePath, contentType, headers);
+            return new Configuration(this);
         }
     }
 
@@ -0,0 +1,173 @@
+package api.client;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.internal.NoParameterValue;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * REST Assured filter recording exchanges to, or replaying them from, an exchange log as configured by
+ * {@link Configuration#getExchangeMode()}. It runs closest to the wire, after logging and metrics, so replayed
+ * exchanges are logged, attached and measured like live ones.
+ * <p>
+ * Requests are matched on their endpoint, i.e. method and path template, and a key of their path, query and form
+ * parameters and headers sorted by name, plus the body with JSON object fields sorted by name. Logins and screen
+ * names carry the namespace of the run, see {@code test.identity.namespace}, and are masked in the key, so a request
+ * matches its recording from another namespace; the rest, e.g. editor, role, age, gender and password, must match
+ * exactly. Set {@code test.data.seed} to generate the same test data for each test on every run, and pin the
+ * namespace as well when tests compare the logins and screen names of replayed responses with what they sent.
+ */
+public final class ExchangeFilter implements OrderedFilter {
+
+    private static final ObjectWriter SORTED_WRITER = JsonSupport.objectMapper().writer()
+            .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    private static final Set<String> GENERATED_FIELDS = Set.of("login", "screenName");
+    private static final String MASK = "*";
+
+    private final ExchangeRecorder recorder;
+    private final ExchangeReplayer replayer;
+
+    private ExchangeFilter(final ExchangeRecorder recorder, final ExchangeReplayer replayer) {
+        this.recorder = recorder;
+        this.replayer = replayer;
+    }
+
+    /**
+     * Creates the filter for the exchange mode of a configuration.
+     *
+     * @param configuration the client configuration
+     * @return the filter, or null if exchanges are neither recorded nor replayed
+     */
+    public static ExchangeFilter of(final Configuration configuration) {
+        ExchangeMode mode = configuration.getExchangeMode();
+        if (mode == null || mode == ExchangeMode.OFF) {
+            return null;
+        }
+        if (configuration.getExchangeLogFile() == null) {
+            throw new IllegalArgumentException("Exchange mode " + mode + " requires an exchange log file");
+        }
+        return mode == ExchangeMode.RECORD
+                ? new ExchangeFilter(ExchangeRecorder.open(Paths.get(configuration.getExchangeLogFile())), null)
+                : new ExchangeFilter(null, ExchangeReplayer.open(Paths.get(configuration.getExchangeLogFile())));
+    }
+
+    @Override
+    public Response filter(final FilterableRequestSpecification requestSpec,
+                           final FilterableResponseSpecification responseSpec,
+                           final FilterContext ctx) {
+        String endpoint = requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath();
+        String key = key(requestSpec);
+        if (isReplaying()) {
+            return replay(endpoint, key);
+        }
+        return record(endpoint, key, ctx.next(requestSpec, responseSpec));
+    }
+
+    /**
+     * Tells whether requests are answered from the exchange log instead of being sent.
+     *
+     * @return true when replaying, false when recording
+     */
+    boolean isReplaying() {
+        return replayer != null;
+    }
+
+    /**
+     * Gets the recorded response to a request.
+     *
+     * @param endpoint the method and path template
+     * @param key the normalized request parameters, see {@link #key(Object, Map, Map, Map, Object)}
+     * @return the recorded response
+     * @throws IllegalStateException if the request was not recorded
+     */
+    Response replay(final String endpoint, final String key) {
+        return replayer.replay(endpoint, key);
+    }
+
+    /**
+     * Records the response to a request.
+     *
+     * @param endpoint the method and path template
+     * @param key the normalized request parameters, see {@link #key(Object, Map, Map, Map, Object)}
+     * @param response the response
+     * @return the response
+     */
+    Response record(final String endpoint, final String key, final Response response) {
+        recorder.record(endpoint, key, response.getStatusCode(), response.getContentType(), response.asByteArray());
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * Builds the normalized parameters of a REST Assured request.
+     */
+    static String key(final FilterableRequestSpecification requestSpec) {
+        Map<String, String> headers = new TreeMap<>();
+        for (Header header : requestSpec.getHeaders()) {
+            headers.put(header.getName(), header.getValue());
+        }
+        return key(requestSpec.getNamedPathParams(), requestSpec.getQueryParams(), requestSpec.getFormParams(),
+                headers, requestSpec.getBody());
+    }
+
+    /**
+     * Builds the normalized parameters of a request, with generated values masked.
+     *
+     * @param path the path parameters, or the path if the request has none
+     * @param queryParams the query parameters
+     * @param formParams the form parameters
+     * @param headers the headers
+     * @param body the body, may be null
+     * @return the key
+     */
+    static String key(final Object path, final Map<String, ?> queryParams, final Map<String, ?> formParams,
+                      final Map<String, String> headers, final Object body) {
+        return "path=" + (path instanceof Map ? mask((Map<?, ?>) path) : path)
+                + " query=" + mask(queryParams)
+                + " form=" + mask(formParams)
+                + " headers=" + new TreeMap<>(headers)
+                + " body=" + normalizeBody(body);
+    }
+
+    private static Map<Object, Object> mask(final Map<?, ?> params) {
+        Map<Object, Object> masked = new TreeMap<>();
+        params.forEach((name, value) -> {
+            // Parameters set to null are rendered with an identity hash code, which differs on every run
+            Object stable = value instanceof NoParameterValue ? null : value;
+            masked.put(name, GENERATED_FIELDS.contains(name) && stable != null ? MASK : stable);
+        });
+        return masked;
+    }
+
+    private static String normalizeBody(final Object body) {
+        if (body == null) {
+            return "";
+        }
+        String text = body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8) : body.toString();
+        try {
+            Object json = JsonSupport.readerFor(Object.class).readValue(text);
+            if (json instanceof Map) {
+                json = mask((Map<?, ?>) json);
+            }
+            return SORTED_WRITER.writeValueAsString(json);
+        } catch (IOException e) {
+            return text;
+        }
+    }
+}
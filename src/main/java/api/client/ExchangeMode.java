@@ -0,0 +1,17 @@
+package api.client;
+
+/**
+ * Mode deciding whether HTTP exchanges are recorded to or replayed from an exchange log,
+ * see {@link Configuration#getExchangeLogFile()}.
+ */
+public enum ExchangeMode {
+
+    /** Requests go to the service and nothing is recorded. */
+    OFF,
+
+    /** Requests go to the service and every exchange is appended to the exchange log. */
+    RECORD,
+
+    /** Requests are answered from the exchange log and never reach the service. */
+    REPLAY
+}
@@ -0,0 +1,127 @@
+package api.client;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appends HTTP exchanges to a compact binary exchange log, replayed by {@link ExchangeReplayer}.
+ * <p>
+ * The log starts with the magic number {@code PXL1} and is followed by one record per exchange, all integers big-endian:
+ * <pre>
+ * int    record length, excluding this field
+ * int    endpoint length, followed by the UTF-8 endpoint, e.g. "PATCH /player/update/{editor}/{id}"
+ * int    key length, followed by the UTF-8 normalized request parameters
+ * int    status code
+ * int    content type length, followed by the UTF-8 content type
+ * int    body length, followed by the body
+ * </pre>
+ * Each record is written with a single unbuffered write, so a crashed run leaves at most its last record truncated.
+ * A log is truncated when it is first opened by a JVM and shared by all clients recording to it.
+ */
+public final class ExchangeRecorder {
+
+    static final int MAGIC = 0x50584C31;
+
+    private static final Logger LOGGER = LogManager.getLogger(ExchangeRecorder.class);
+    private static final ConcurrentMap<Path, ExchangeRecorder> RECORDERS = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final FileChannel channel;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final LongAdder recorded = new LongAdder();
+
+    private ExchangeRecorder(final Path file, final FileChannel channel) {
+        this.file = file;
+        this.channel = channel;
+    }
+
+    /**
+     * Gets the recorder of an exchange log, creating or truncating the log on first use.
+     *
+     * @param file the exchange log
+     * @return the recorder
+     */
+    public static ExchangeRecorder open(final Path file) {
+        return RECORDERS.computeIfAbsent(file.toAbsolutePath().normalize(), ExchangeRecorder::create);
+    }
+
+    private static ExchangeRecorder create(final Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES).putInt(MAGIC);
+            header.flip();
+            writeFully(channel, header);
+            LOGGER.info("Recording HTTP exchanges to {}", file);
+            return new ExchangeRecorder(file, channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open exchange log " + file, e);
+        }
+    }
+
+    /**
+     * Appends an exchange to the log.
+     *
+     * @param endpoint the method and path template
+     * @param key the normalized request parameters
+     * @param statusCode the response status code
+     * @param contentType the response content type, may be null
+     * @param body the response body, may be null
+     */
+    public void record(final String endpoint, final String key, final int statusCode, final String contentType,
+                       final byte[] body) {
+        byte[] endpointBytes = endpoint.getBytes(StandardCharsets.UTF_8);
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] contentTypeBytes = contentType != null ? contentType.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        byte[] bodyBytes = body != null ? body : new byte[0];
+        int length = 5 * Integer.BYTES + endpointBytes.length + keyBytes.length + contentTypeBytes.length
+                + bodyBytes.length;
+
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + length)
+                .putInt(length)
+                .putInt(endpointBytes.length).put(endpointBytes)
+                .putInt(keyBytes.length).put(keyBytes)
+                .putInt(statusCode)
+                .putInt(contentTypeBytes.length).put(contentTypeBytes)
+                .putInt(bodyBytes.length).put(bodyBytes);
+        record.flip();
+
+        writeLock.lock();
+        try {
+            writeFully(channel, record);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to record exchange to " + file, e);
+        } finally {
+            writeLock.unlock();
+        }
+        recorded.increment();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public long getRecorded() {
+        return recorded.sum();
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
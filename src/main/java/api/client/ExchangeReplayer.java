@@ -0,0 +1,170 @@
+package api.client;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Answers requests from an exchange log written by {@link ExchangeRecorder}.
+ * The log is memory-mapped and indexed once; responses are built from the mapped bytes when they are served.
+ * <p>
+ * A request is matched on its endpoint and normalized parameters. Recordings of the same request are served in
+ * recorded order, repeating the last one once all were served. A request without a recording of its own fails rather
+ * than getting the response to another request.
+ */
+public final class ExchangeReplayer {
+
+    private static final Logger LOGGER = LogManager.getLogger(ExchangeReplayer.class);
+    private static final ConcurrentMap<Path, ExchangeReplayer> REPLAYERS = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final ByteBuffer log;
+    private final Map<String, Recordings> byKey;
+    private final int size;
+
+    private ExchangeReplayer(final Path file, final ByteBuffer log) {
+        this.file = file;
+        this.log = log;
+        Map<String, List<Integer>> keyOffsets = new HashMap<>();
+        if (log.limit() < Integer.BYTES || log.getInt(0) != ExchangeRecorder.MAGIC) {
+            throw new IllegalStateException("Not an exchange log: " + file);
+        }
+        int count = 0;
+        int position = Integer.BYTES;
+        while (position + Integer.BYTES <= log.limit()) {
+            int length = log.getInt(position);
+            int start = position + Integer.BYTES;
+            if (length < 0 || start + length > log.limit()) {
+                LOGGER.warn("Ignoring truncated record at offset {} of {}", position, file);
+                break;
+            }
+            String endpoint = readString(start);
+            String key = readString(start + Integer.BYTES + lengthAt(start));
+            keyOffsets.computeIfAbsent(endpoint + ' ' + key, ignored -> new ArrayList<>()).add(start);
+            count++;
+            position = start + length;
+        }
+        this.byKey = index(keyOffsets);
+        this.size = count;
+        LOGGER.info("Replaying {} HTTP exchanges from {}", count, file);
+    }
+
+    /**
+     * Gets the replayer of an exchange log, mapping and indexing the log on first use.
+     *
+     * @param file the exchange log
+     * @return the replayer
+     */
+    public static ExchangeReplayer open(final Path file) {
+        return REPLAYERS.computeIfAbsent(file.toAbsolutePath().normalize(), ExchangeReplayer::map);
+    }
+
+    private static ExchangeReplayer map(final Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new ExchangeReplayer(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open exchange log " + file, e);
+        }
+    }
+
+    /**
+     * Gets the recorded response to a request.
+     *
+     * @param endpoint the method and path template
+     * @param key the normalized request parameters
+     * @return the recorded response
+     * @throws IllegalStateException if the request was not recorded
+     */
+    public Response replay(final String endpoint, final String key) {
+        Recordings recordings = byKey.get(endpoint + ' ' + key);
+        if (recordings == null) {
+            throw new IllegalStateException("No recorded exchange for " + endpoint + " " + key + " in " + file);
+        }
+        return read(recordings.next());
+    }
+
+    /**
+     * Gets the number of recorded exchanges.
+     *
+     * @return the exchange count
+     */
+    public int size() {
+        return size;
+    }
+
+    private Response read(final int offset) {
+        int position = offset;
+        position += Integer.BYTES + lengthAt(position);
+        position += Integer.BYTES + lengthAt(position);
+        int statusCode = log.getInt(position);
+        position += Integer.BYTES;
+        String contentType = readString(position);
+        position += Integer.BYTES + lengthAt(position);
+        byte[] body = new byte[log.getInt(position)];
+        ByteBuffer slice = log.duplicate();
+        slice.position(position + Integer.BYTES);
+        slice.get(body);
+
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setStatusLine("HTTP/1.1 " + statusCode)
+                .setBody(body);
+        if (!contentType.isEmpty()) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+
+    private int lengthAt(final int position) {
+        return log.getInt(position);
+    }
+
+    private String readString(final int position) {
+        byte[] bytes = new byte[log.getInt(position)];
+        ByteBuffer slice = log.duplicate();
+        slice.position(position + Integer.BYTES);
+        slice.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, Recordings> index(final Map<String, List<Integer>> offsets) {
+        Map<String, Recordings> index = new HashMap<>();
+        offsets.forEach((key, list) -> index.put(key, new Recordings(list.stream().mapToInt(Integer::intValue).toArray())));
+        return index;
+    }
+
+    /**
+     * Offsets of the recordings of one request with the position of the next one to serve.
+     */
+    private static final class Recordings {
+
+        private final int[] offsets;
+        private final AtomicInteger served = new AtomicInteger();
+
+        private Recordings(final int[] offsets) {
+            this.offsets = offsets;
+        }
+
+        private int next() {
+            int index = served.getAndIncrement();
+            return offsets[index < 0 || index >= offsets.length ? offsets.length - 1 : index];
+        }
+    }
+}
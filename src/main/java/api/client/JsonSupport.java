@@ -0,0 +1,126 @@
+package api.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Shared, pre-configured Jackson mapper for the API clients.
+ * Readers and writers are immutable and thread-safe, so one instance per target class is
+ * created lazily and reused for every request.
+ */
+public final class JsonSupport {
+
+    /**
+     * Configured like REST Assured's default Jackson 2 mapper, so switching the clients to it
+     * does not change how bodies are mapped.
+     */
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private static final ClassValue<ObjectReader> READERS = new ClassValue<ObjectReader>() {
+        @Override
+        protected ObjectReader computeValue(final Class<?> type) {
+            return OBJECT_MAPPER.readerFor(type);
+        }
+    };
+
+    private static final ObjectWriter WRITER = OBJECT_MAPPER.writer();
+
+    private JsonSupport() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static ObjectMapper objectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Gets the cached reader for the given type.
+     *
+     * @param type the target type
+     * @return the reader
+     */
+    public static ObjectReader readerFor(final Class<?> type) {
+        return READERS.get(type);
+    }
+
+    public static ObjectWriter writer() {
+        return WRITER;
+    }
+
+    /**
+     * Streams the elements of an array field of a top-level JSON object.
+     * The input is read token by token, so only the current element is held in memory.
+     * The returned stream must be closed to release the input.
+     *
+     * @param input the JSON input
+     * @param fieldName the name of the array field
+     * @param elementType the element type
+     * @param <T> the element type
+     * @return a lazy stream of the array elements
+     * @throws IllegalStateException if the input is not an object containing the array field
+     */
+    public static <T> Stream<T> streamArrayField(final InputStream input, final String fieldName,
+                                                 final Class<T> elementType) {
+        try {
+            JsonParser parser = OBJECT_MAPPER.getFactory().createParser(input);
+            try {
+                moveToArrayField(parser, fieldName);
+            } catch (IOException | RuntimeException e) {
+                parser.close();
+                throw e;
+            }
+            ObjectReader reader = readerFor(elementType);
+            Spliterator<T> elements = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                    Spliterator.ORDERED | Spliterator.NONNULL) {
+                @Override
+                public boolean tryAdvance(final Consumer<? super T> action) {
+                    try {
+                        if (parser.nextToken() == JsonToken.END_ARRAY) {
+                            return false;
+                        }
+                        action.accept(reader.<T>readValue(parser));
+                        return true;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to read element of '" + fieldName + "'", e);
+                    }
+                }
+            };
+            return StreamSupport.stream(elements, false).onClose(() -> {
+                try {
+                    parser.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read array field '" + fieldName + "'", e);
+        }
+    }
+
+    private static void moveToArrayField(final JsonParser parser, final String fieldName) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalStateException("Expected a JSON object containing array field '" + fieldName + "'");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (name.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                return;
+            }
+            parser.skipChildren();
+        }
+        throw new IllegalStateException("JSON object has no array field '" + fieldName + "'");
+    }
+}
@@ -0,0 +1,38 @@
+package api.client;
+
+/**
+ * Policy for logging HTTP exchanges made by the API clients.
+ */
+public enum LogPolicy {
+
+    /** Nothing is logged. */
+    NONE,
+
+    /** Method, URI, status code and headers of every exchange are logged, bodies are not. */
+    HEADERS,
+
+    /** Every exchange is logged including request and response bodies. */
+    ALL,
+
+    /** Exchanges are logged including bodies only if the response has a 4xx or 5xx status code. */
+    ON_FAILURE;
+
+    /**
+     * Checks whether an exchange with the given response status code has to be logged.
+     *
+     * @param statusCode the response status code
+     * @return true if the exchange has to be logged
+     */
+    public boolean shouldLog(final int statusCode) {
+        return this == HEADERS || this == ALL || (this == ON_FAILURE && statusCode >= 400);
+    }
+
+    /**
+     * Checks whether bodies are included when an exchange is logged.
+     *
+     * @return true if bodies are logged
+     */
+    public boolean includesBodies() {
+        return this == ALL || this == ON_FAILURE;
+    }
+}
@@ -0,0 +1,120 @@
+package api.client;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * REST Assured filter that logs HTTP exchanges according to a {@link LogPolicy}.
+ * Nothing is formatted unless the exchange is actually going to be logged, and bodies are
+ * truncated to the configured maximum length.
+ */
+public final class LoggingFilter implements OrderedFilter {
+
+    private static final Logger LOGGER = LogManager.getLogger(LoggingFilter.class);
+
+    private final LogPolicy logPolicy;
+    private final int maxBodyLength;
+
+    /**
+     * Creates a new logging filter.
+     *
+     * @param logPolicy the log policy
+     * @param maxBodyLength the maximum number of body characters to log, negative for no limit
+     */
+    public LoggingFilter(final LogPolicy logPolicy, final int maxBodyLength) {
+        this.logPolicy = logPolicy;
+        this.maxBodyLength = maxBodyLength;
+    }
+
+    @Override
+    public Response filter(final FilterableRequestSpecification requestSpec,
+                           final FilterableResponseSpecification responseSpec,
+                           final FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        logExchange(requestSpec.getMethod(), requestSpec.getURI(), requestSpec::getHeaders,
+                requestSpec.getBody(), response);
+        return response;
+    }
+
+    /**
+     * Logs an exchange if the policy requires it.
+     *
+     * @param method the request method
+     * @param uri the request URI
+     * @param requestHeaders the request headers, only resolved if the exchange is logged
+     * @param requestBody the request body, may be null
+     * @param response the response
+     */
+    void logExchange(final String method, final String uri, final Supplier<Headers> requestHeaders,
+                     final Object requestBody, final Response response) {
+        if (LOGGER.isInfoEnabled() && logPolicy.shouldLog(response.getStatusCode())) {
+            LOGGER.info(format(method, uri, requestHeaders.get(), requestBody, response));
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return DEFAULT_PRECEDENCE;
+    }
+
+    private String format(final String method, final String uri, final Headers requestHeaders,
+                          final Object requestBody, final Response response) {
+        StringBuilder message = new StringBuilder(256)
+                .append("HTTP ").append(method).append(' ').append(uri)
+                .append(" -> ").append(response.getStatusCode());
+        appendHeaders(message, "Request headers", requestHeaders);
+        if (logPolicy.includesBodies()) {
+            appendBody(message, "Request body", bodyAsString(requestBody));
+        }
+        appendHeaders(message, "Response headers", response.getHeaders());
+        if (logPolicy.includesBodies()) {
+            appendBody(message, "Response body", response.getBody().asString());
+        }
+        return message.toString();
+    }
+
+    private static void appendHeaders(final StringBuilder message, final String title, final Headers headers) {
+        message.append(System.lineSeparator()).append(title).append(": ");
+        headers.forEach(header -> message.append(header.getName()).append('=').append(header.getValue()).append("; "));
+    }
+
+    private void appendBody(final StringBuilder message, final String title, final String body) {
+        if (body == null || body.isEmpty()) {
+            return;
+        }
+        message.append(System.lineSeparator()).append(title).append(": ").append(truncate(body, maxBodyLength));
+    }
+
+    /**
+     * Truncates a body to the given maximum length.
+     *
+     * @param body the body, may be null
+     * @param maxLength the maximum length, negative for no limit
+     * @return the body, truncated if it is longer than the maximum length
+     */
+    static String truncate(final String body, final int maxLength) {
+        if (body == null || maxLength < 0 || body.length() <= maxLength) {
+            return body;
+        }
+        return body.substring(0, maxLength) + "... [" + (body.length() - maxLength) + " more characters]";
+    }
+
+    private static String bodyAsString(final Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return new String((byte[]) body, StandardCharsets.UTF_8);
+        }
+        return String.valueOf(body);
+    }
+}
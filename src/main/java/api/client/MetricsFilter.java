@@ -0,0 +1,47 @@
+package api.client;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * REST Assured filter recording the latency and outcome of every exchange into {@link RequestMetrics}.
+ * It runs closest to the wire, so logging and Allure attachments are not part of the measured latency.
+ */
+public final class MetricsFilter implements OrderedFilter {
+
+    private final RequestMetrics metrics;
+
+    /**
+     * Creates a new metrics filter.
+     *
+     * @param metrics the metrics to record into
+     */
+    public MetricsFilter(final RequestMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Response filter(final FilterableRequestSpecification requestSpec,
+                           final FilterableResponseSpecification responseSpec,
+                           final FilterContext ctx) {
+        RequestMetrics.Endpoint endpoint = metrics.endpoint(requestSpec.getMethod(), requestSpec.getUserDefinedPath());
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            endpoint.record(System.nanoTime() - start, RequestMetrics.Endpoint.TRANSPORT_ERROR);
+            throw e;
+        }
+        endpoint.record(System.nanoTime() - start, response.getStatusCode());
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,82 @@
+package api.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free token bucket holding a single token, which spaces permits evenly at a fixed rate.
+ * Each caller claims the next free time slot with one compare-and-set and then waits for its slot outside of any
+ * lock, so callers are served in claiming order and a run sends at the same rate however many threads it uses.
+ */
+public final class RateLimiter {
+
+    private final long intervalNanos;
+    private final AtomicLong nextFreeNanos;
+
+    /**
+     * Creates a rate limiter.
+     *
+     * @param permitsPerSecond the number of permits per second
+     */
+    public RateLimiter(final int permitsPerSecond) {
+        if (permitsPerSecond < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.nextFreeNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Takes a permit, waiting until it is due.
+     *
+     * @return true if the caller had to wait
+     * @throws IllegalStateException if the thread is interrupted while waiting
+     */
+    public boolean acquire() {
+        long now = System.nanoTime();
+        long slot;
+        while (true) {
+            long next = nextFreeNanos.get();
+            slot = next - now > 0 ? next : now;
+            if (nextFreeNanos.compareAndSet(next, slot + intervalNanos)) {
+                break;
+            }
+        }
+        if (slot == now) {
+            return false;
+        }
+        for (long remaining = slot - System.nanoTime(); remaining > 0; remaining = slot - System.nanoTime()) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a rate limiter permit");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Takes a permit if one is due now, without waiting.
+     *
+     * @return true if a permit was taken
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        for (long next = nextFreeNanos.get(); next - now <= 0; next = nextFreeNanos.get()) {
+            if (nextFreeNanos.compareAndSet(next, now + intervalNanos)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the rate this limiter allows.
+     *
+     * @return the permits per second
+     */
+    public double getPermitsPerSecond() {
+        return (double) TimeUnit.SECONDS.toNanos(1) / intervalNanos;
+    }
+}
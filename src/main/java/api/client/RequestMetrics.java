@@ -0,0 +1,225 @@
+package api.client;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregate latency and outcome metrics of the HTTP calls made by the API clients, per endpoint.
+ * Endpoints are keyed by method and path template, e.g. {@code PATCH /player/update/{editor}/{id}}.
+ * Recording is lock-free, so all client threads can record into the same instance.
+ */
+public final class RequestMetrics {
+
+    private static final RequestMetrics INSTANCE = new RequestMetrics();
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private final ConcurrentMap<String, ConcurrentMap<String, Endpoint>> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty metrics registry. Clients record into {@link #getInstance()}.
+     */
+    public RequestMetrics() {
+    }
+
+    /**
+     * Gets the registry the clients record into.
+     *
+     * @return the shared registry
+     */
+    public static RequestMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the metrics of an endpoint, creating them on first use.
+     *
+     * @param method the request method
+     * @param pathTemplate the path template, e.g. {@code /player/get}
+     * @return the endpoint metrics
+     */
+    public Endpoint endpoint(final String method, final String pathTemplate) {
+        ConcurrentMap<String, Endpoint> byPath = endpoints.get(method);
+        if (byPath == null) {
+            byPath = endpoints.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+        }
+        Endpoint endpoint = byPath.get(pathTemplate);
+        return endpoint != null ? endpoint : byPath.computeIfAbsent(pathTemplate, key -> new Endpoint());
+    }
+
+    /**
+     * Gets the metrics of all endpoints recorded so far, keyed by method and path template.
+     *
+     * @return the endpoint metrics, sorted by key
+     */
+    public Map<String, Endpoint> getEndpoints() {
+        Map<String, Endpoint> result = new TreeMap<>();
+        endpoints.forEach((method, byPath) -> byPath.forEach((path, endpoint) -> result.put(method + " " + path, endpoint)));
+        return result;
+    }
+
+    /**
+     * Renders the metrics of all endpoints as JSON.
+     *
+     * @return the JSON document
+     */
+    public String toJson() {
+        Map<String, Object> report = new TreeMap<>();
+        getEndpoints().forEach((key, endpoint) -> report.put(key, endpoint.toMap()));
+        try {
+            return JsonSupport.writer().withDefaultPrettyPrinter().writeValueAsString(report);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to render request metrics", e);
+        }
+    }
+
+    /**
+     * Writes the JSON metrics to a file, creating parent directories as needed.
+     *
+     * @param file the target file
+     */
+    public void writeJson(final Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(file, toJson());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write request metrics to " + file, e);
+        }
+    }
+
+    /**
+     * Latency histogram, request count and outcome counts of one endpoint.
+     */
+    public static final class Endpoint {
+
+        /** Status key used for requests that failed without an HTTP response. */
+        public static final int TRANSPORT_ERROR = -1;
+
+        private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+        private static final int SIGNIFICANT_DIGITS = 3;
+
+        private final Histogram latencyMicros = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final ConcurrentMap<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder throttled = new LongAdder();
+        private final LongAdder throttleWaitNanos = new LongAdder();
+
+        private Endpoint() {
+        }
+
+        /**
+         * Records a request. Status codes of 400 and above and transport errors count as errors.
+         *
+         * @param latencyNanos the latency in nanoseconds
+         * @param statusCode the response status code, or {@link #TRANSPORT_ERROR}
+         */
+        public void record(final long latencyNanos, final int statusCode) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+            latencyMicros.recordValue(Math.max(1, Math.min(micros, MAX_TRACKABLE_MICROS)));
+            LongAdder count = statusCodes.get(statusCode);
+            if (count == null) {
+                count = statusCodes.computeIfAbsent(statusCode, key -> new LongAdder());
+            }
+            count.increment();
+            if (statusCode == TRANSPORT_ERROR || statusCode >= 400) {
+                errors.increment();
+            }
+        }
+
+        /**
+         * Records the time a request waited for the client-side {@link Throttle}.
+         *
+         * @param waitNanos the wait time in nanoseconds, 0 if the request was not held back
+         */
+        public void recordThrottleWait(final long waitNanos) {
+            if (waitNanos > 0) {
+                throttled.increment();
+                throttleWaitNanos.add(waitNanos);
+            }
+        }
+
+        /**
+         * Gets the number of requests held back by the client-side throttle.
+         *
+         * @return the throttled request count
+         */
+        public long getThrottled() {
+            return throttled.sum();
+        }
+
+        /**
+         * Gets the total time requests waited for the client-side throttle.
+         *
+         * @return the wait time in milliseconds
+         */
+        public double getThrottleWaitMillis() {
+            return throttleWaitNanos.sum() / 1_000_000.0;
+        }
+
+        public long getCount() {
+            return latencyMicros.getTotalCount();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        /**
+         * Gets the number of requests per status code, with {@link #TRANSPORT_ERROR} for requests without a response.
+         *
+         * @return the status code counts
+         */
+        public Map<Integer, Long> getStatusCodes() {
+            Map<Integer, Long> result = new TreeMap<>();
+            statusCodes.forEach((statusCode, count) -> result.put(statusCode, count.sum()));
+            return result;
+        }
+
+        /**
+         * Gets the latency at the given percentile.
+         *
+         * @param percentile the percentile, e.g. 99
+         * @return the latency in milliseconds
+         */
+        public double getLatencyMillis(final double percentile) {
+            return latencyMicros.copy().getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        private Map<String, Object> toMap() {
+            Histogram latency = latencyMicros.copy();
+            long count = latency.getTotalCount();
+            long errorCount = getErrors();
+            Map<String, Object> endpoint = new TreeMap<>();
+            endpoint.put("count", count);
+            endpoint.put("errors", errorCount);
+            endpoint.put("errorRate", count == 0 ? 0 : (double) errorCount / count);
+            Map<String, Long> outcomes = new TreeMap<>();
+            getStatusCodes().forEach((statusCode, statusCount) -> outcomes.put(
+                    statusCode == TRANSPORT_ERROR ? "transport_error" : String.valueOf(statusCode), statusCount));
+            endpoint.put("statusCodes", outcomes);
+            Map<String, Object> latencyMillis = new TreeMap<>();
+            latencyMillis.put("mean", latency.getMean() / 1000.0);
+            for (double percentile : PERCENTILES) {
+                latencyMillis.put("p" + (long) percentile, latency.getValueAtPercentile(percentile) / 1000.0);
+            }
+            latencyMillis.put("max", latency.getMaxValue() / 1000.0);
+            endpoint.put("latencyMillis", latencyMillis);
+            endpoint.put("throttled", getThrottled());
+            endpoint.put("throttleWaitMillis", getThrottleWaitMillis());
+            return endpoint;
+        }
+    }
+}
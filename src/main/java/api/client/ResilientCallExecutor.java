@@ -0,0 +1,263 @@
+package api.client;
+
+import io.restassured.response.Response;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs idempotent calls with retries and optional hedging.
+ * <p>
+ * A call that fails with an exception, e.g. a timeout, or a 5xx status is retried up to
+ * {@link Configuration#getRetryCount()} times, waiting a random time of up to
+ * {@code retryBackoffMillis * 2^(attempt - 1)} (full jitter, capped at {@value #MAX_BACKOFF_MILLIS} ms) in between.
+ * <p>
+ * With {@link Configuration#isHedgingEnabled()}, an attempt that is still running after the p95 latency of the
+ * operation gets a second, identical request and the first successful response wins. Latencies are tracked per
+ * operation once {@value #MIN_HEDGING_SAMPLES} calls have succeeded; until then calls are not hedged.
+ * <p>
+ * Hedged attempts and their hedges run on a shared pool while the calling thread waits for the first success, so a
+ * hedge that answers first cuts the wait for a slow request, which is left to finish in the background. Both attach
+ * their exchanges to the test case or step that made the call, see {@link AllureAttachmentFilter#boundTo}. Attempts
+ * that are not hedged, e.g. before enough latencies are known, run on the calling thread.
+ */
+public final class ResilientCallExecutor {
+
+    private static final Logger LOGGER = LogManager.getLogger(ResilientCallExecutor.class);
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+    private static final int MIN_HEDGING_SAMPLES = 20;
+    private static final double HEDGING_PERCENTILE = 95;
+    private static final AtomicInteger hedgingThreadIds = new AtomicInteger();
+    private static final ExecutorService HEDGING_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "hedged-call-" + hedgingThreadIds.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final ScheduledExecutorService HEDGING_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "hedged-call-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final int retryCount;
+    private final long retryBackoffMillis;
+    private final boolean hedgingEnabled;
+    private final ConcurrentMap<String, Histogram> latencies = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    /**
+     * Creates an executor with the retry and hedging settings of the given configuration.
+     *
+     * @param configuration the client configuration
+     */
+    public ResilientCallExecutor(final Configuration configuration) {
+        this.retryCount = Math.max(0, configuration.getRetryCount());
+        this.retryBackoffMillis = Math.max(0, configuration.getRetryBackoffMillis());
+        this.hedgingEnabled = configuration.isHedgingEnabled();
+    }
+
+    /**
+     * Runs an idempotent call. The call may be invoked several times, also concurrently when hedging.
+     *
+     * @param operation the operation name latencies are tracked under, e.g. {@code getPlayer}
+     * @param call the call
+     * @return the first successful response, or the last response or failure once retries are exhausted
+     */
+    public Response execute(final String operation, final Supplier<Response> call) {
+        calls.increment();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                Response response = hedgingEnabled ? hedged(operation, call) : timed(operation, call);
+                if (!isRetryable(response) || attempt >= retryCount) {
+                    return response;
+                }
+                LOGGER.warn("{} failed with status {} on attempt {}, retrying", operation, response.getStatusCode(),
+                        attempt + 1);
+            } catch (Exception e) {
+                // REST Assured rethrows I/O failures such as timeouts undeclared, so they are caught as Exception
+                if (attempt >= retryCount) {
+                    throw e;
+                }
+                LOGGER.warn("{} failed on attempt {}, retrying: {}", operation, attempt + 1, e.toString());
+            }
+            retries.increment();
+            backOff(attempt + 1);
+        }
+    }
+
+    /**
+     * Runs one attempt on the pool, sending a hedged request if it is still running after the usual p95 latency,
+     * and waits for the first of them to succeed, or for both to fail.
+     */
+    private Response hedged(final String operation, final Supplier<Response> call) {
+        long delayMicros = hedgingDelayMicros(operation);
+        if (delayMicros < 0) {
+            return timed(operation, call);
+        }
+        Supplier<Response> ownedCall = AllureAttachmentFilter.boundTo(AllureAttachmentFilter.Owner.current(), call);
+        Hedging hedging = new Hedging();
+        ScheduledFuture<?> hedgeTimer = HEDGING_SCHEDULER.schedule(() -> {
+            if (hedging.result.isDone()) {
+                hedging.settle(null, null, false);
+                return;
+            }
+            hedges.increment();
+            LOGGER.debug("{} slower than {} us, sending hedged request", operation, delayMicros);
+            CompletableFuture.supplyAsync(() -> timed(operation, ownedCall), HEDGING_EXECUTOR)
+                    .whenComplete((response, failure) -> hedging.settle(response, failure, true));
+        }, delayMicros, TimeUnit.MICROSECONDS);
+
+        CompletableFuture.supplyAsync(() -> timed(operation, ownedCall), HEDGING_EXECUTOR)
+                .whenComplete((response, failure) -> {
+                    if (hedgeTimer.cancel(false)) {
+                        // The hedge will never be sent
+                        hedging.settle(null, null, false);
+                    }
+                    hedging.settle(response, failure, false);
+                });
+        try {
+            return hedging.result.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private Response timed(final String operation, final Supplier<Response> call) {
+        long start = System.nanoTime();
+        Response response = call.get();
+        if (hedgingEnabled && !isRetryable(response)) {
+            latencies.computeIfAbsent(operation, key -> new ConcurrentHistogram(3))
+                    .recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start)));
+        }
+        return response;
+    }
+
+    /**
+     * Gets the delay before a hedged request is sent.
+     *
+     * @return the p95 latency in microseconds, or -1 if too few calls succeeded to tell
+     */
+    private long hedgingDelayMicros(final String operation) {
+        Histogram histogram = latencies.get(operation);
+        if (histogram == null || histogram.getTotalCount() < MIN_HEDGING_SAMPLES) {
+            return -1;
+        }
+        return histogram.getValueAtPercentile(HEDGING_PERCENTILE);
+    }
+
+    private void backOff(final int retry) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, retryBackoffMillis << Math.min(retry - 1, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off", e);
+        }
+    }
+
+    /**
+     * Outcome of a hedged attempt: the first successful response of the request and its hedge, or else the
+     * outcome of the one that finished last.
+     */
+    private final class Hedging {
+
+        private final CompletableFuture<Response> result = new CompletableFuture<>();
+        private final AtomicInteger pending = new AtomicInteger(2);
+
+        /**
+         * Settles one of the two requests. A request that is never sent settles with neither a response nor
+         * a failure.
+         */
+        private void settle(final Response response, final Throwable failure, final boolean hedge) {
+            if (response != null && !isRetryable(response)) {
+                if (result.complete(response) && hedge) {
+                    hedgeWins.increment();
+                }
+            } else if (failure != null && hedge) {
+                LOGGER.debug("Hedged request failed: {}", failure.toString());
+            }
+            if (pending.decrementAndGet() > 0 || result.isDone()) {
+                return;
+            }
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(response);
+            }
+        }
+    }
+
+    private static boolean isRetryable(final Response response) {
+        return response.getStatusCode() >= 500;
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * Gets the number of retries, i.e. attempts after the first one of a call.
+     *
+     * @return the retry count
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * Gets the number of hedged requests sent.
+     *
+     * @return the hedge count
+     */
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    /**
+     * Gets the number of hedged requests whose response was returned because they succeeded first.
+     *
+     * @return the count of winning hedges
+     */
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ResilientCallExecutor{" +
+                "calls=" + getCalls() +
+                ", retries=" + getRetries() +
+                ", hedges=" + getHedges() +
+                ", hedgeWins=" + getHedgeWins() +
+                '}';
+    }
+}
@@ -0,0 +1,202 @@
+package api.client;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded, time-limited cache of responses, keyed by e.g. an entity ID.
+ * Entries expire after a fixed time to live; once the cache is full the oldest entries are evicted first.
+ * Lookups are lock-free and safe to use from any number of threads.
+ * <p>
+ * A response fetched while an invalidation happened may already be stale, so callers take a {@link #generation()}
+ * before sending the request and pass it to {@link #put(Object, ResponseWrapper, long)}, which drops the response
+ * if anything was invalidated in between.
+ *
+ * @param <K> the key type
+ */
+public final class ResponseCache<K> {
+
+    private final ConcurrentMap<K, Entry<K>> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry<K>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedEntries = new AtomicInteger();
+    private final AtomicLong generation = new AtomicLong();
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize the maximum number of entries
+     * @param ttlMillis the time to live of an entry in milliseconds
+     */
+    public ResponseCache(final int maxSize, final long ttlMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        if (ttlMillis < 1) {
+            throw new IllegalArgumentException("ttlMillis must be positive: " + ttlMillis);
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    /**
+     * Gets the cached response for a key.
+     *
+     * @param key the key
+     * @return the response, or null if it is not cached or has expired
+     */
+    public ResponseWrapper get(final K key) {
+        Entry<K> entry = entries.get(key);
+        if (entry != null && System.nanoTime() - entry.createdAt < ttlNanos) {
+            hits.increment();
+            return entry.response;
+        }
+        if (entry != null) {
+            entries.remove(key, entry);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Gets the current invalidation generation, to be passed to {@link #put(Object, ResponseWrapper, long)}.
+     *
+     * @return the generation
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a response, evicting the oldest entries if the cache is full.
+     * The response is dropped if an invalidation happened since the given generation was taken.
+     *
+     * @param key the key
+     * @param response the response
+     * @param requestGeneration the generation taken before the response was requested
+     */
+    public void put(final K key, final ResponseWrapper response, final long requestGeneration) {
+        if (generation.get() != requestGeneration) {
+            return;
+        }
+        Entry<K> entry = new Entry<>(key, response, System.nanoTime());
+        entries.put(key, entry);
+        if (generation.get() != requestGeneration) {
+            // Invalidated while being stored
+            entries.remove(key, entry);
+            return;
+        }
+        insertionOrder.offer(entry);
+        queuedEntries.incrementAndGet();
+        // Replaced, expired and invalidated entries stay queued until polled here, so the queue is kept
+        // at most twice the cache size
+        while (entries.size() > maxSize || queuedEntries.get() > 2 * maxSize) {
+            Entry<K> oldest = insertionOrder.poll();
+            if (oldest == null) {
+                break;
+            }
+            queuedEntries.decrementAndGet();
+            if (entries.remove(oldest.key, oldest)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes the response for a key, e.g. after the entity was changed.
+     *
+     * @param key the key
+     */
+    public void invalidate(final K key) {
+        generation.incrementAndGet();
+        if (entries.remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * Removes all responses.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the share of lookups that were answered from the cache.
+     *
+     * @return the hit rate between 0 and 1
+     */
+    public double getHitRate() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Gets the number of entries evicted because the cache was full.
+     *
+     * @return the eviction count
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the number of entries removed by {@link #invalidate(Object)}.
+     *
+     * @return the invalidation count
+     */
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseCache{" +
+                "size=" + size() +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() +
+                ", evictions=" + getEvictions() +
+                ", invalidations=" + getInvalidations() +
+                '}';
+    }
+
+    /**
+     * Cached response with its key and creation time.
+     */
+    private static final class Entry<K> {
+        private final K key;
+        private final ResponseWrapper response;
+        private final long createdAt;
+
+        private Entry(final K key, final ResponseWrapper response, final long createdAt) {
+            this.key = key;
+            this.response = response;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -4,6 +4,9 @@ import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.util.stream.Stream;
+
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -38,6 +41,7 @@ public final class ResponseWrapper {
 
     /**
      * Reads and deserializes the response body to the expected entity type.
+     * The body bytes are mapped in a single pass with the shared reader from {@link JsonSupport}.
      *
      * @param responseClass the expected response entity class
      * @param <T> the type of the response entity
@@ -45,22 +49,44 @@ public final class ResponseWrapper {
      * @throws IllegalStateException if the response body is empty or cannot be deserialized
      */
     public <T> T readEntity(final Class<T> responseClass) {
-        String body = response.getBody().asString();
-        if (body == null || body.isEmpty()) {
+        byte[] body = response.getBody().asByteArray();
+        if (body == null || body.length == 0) {
             LOGGER.error("Response body is empty; cannot map to {}", responseClass.getSimpleName());
             throw new IllegalStateException("Response body is empty; cannot map to " + responseClass.getSimpleName());
         }
         
         try {
-            T entity = response.getBody().as(responseClass);
+            T entity = JsonSupport.readerFor(responseClass).readValue(body);
             LOGGER.debug("Successfully deserialized response to {}: {}", responseClass.getSimpleName(), entity);
             return entity;
-        } catch (Exception e) {
-            LOGGER.error("Failed to deserialize response body to {}: {}", responseClass.getSimpleName(), body, e);
+        } catch (IOException e) {
+            LOGGER.error("Failed to deserialize response body to {}: {}", responseClass.getSimpleName(),
+                    getBodyAsString(), e);
             throw new IllegalStateException("Failed to deserialize response body to " + responseClass.getSimpleName(), e);
         }
     }
 
+    /**
+     * Streams the elements of an array field of the response body, e.g. {@code players} of {@code /player/getAll}.
+     * Elements are deserialized one at a time and never collected into a list.
+     * The returned stream should be closed once consumed.
+     *
+     * @param fieldName the name of the array field
+     * @param elementClass the expected element class
+     * @param <T> the type of the elements
+     * @return a lazy stream of the elements
+     * @throws IllegalStateException if the response body is empty or has no such array field
+     */
+    public <T> Stream<T> streamArray(final String fieldName, final Class<T> elementClass) {
+        byte[] body = response.getBody().asByteArray();
+        if (body == null || body.length == 0) {
+            LOGGER.error("Response body is empty; cannot stream {} of {}", fieldName, elementClass.getSimpleName());
+            throw new IllegalStateException("Response body is empty; cannot stream " + fieldName
+                    + " of " + elementClass.getSimpleName());
+        }
+        return JsonSupport.streamArrayField(response.getBody().asInputStream(), fieldName, elementClass);
+    }
+
     /**
      * Asserts that the response has the expected status code.
      *
@@ -79,6 +105,34 @@ public final class ResponseWrapper {
         return this;
     }
 
+    /**
+     * Asserts that the response body matches a JSON schema from the classpath, e.g. {@code players-schema}.
+     * The schema is compiled once by the {@link SchemaValidator} and reused by every call.
+     *
+     * @param schemaName the schema name
+     * @return this ResponseWrapper for method chaining
+     * @throws AssertionError if the body does not match the schema
+     */
+    public ResponseWrapper expectingSchema(final String schemaName) {
+        SchemaValidator.getInstance().validate(schemaName, response.getBody().asByteArray());
+        return this;
+    }
+
+    /**
+     * Asserts element by element that the items of an array field of the response body match a JSON schema,
+     * e.g. {@code players} of {@code /player/getAll}, without reading the body into a tree.
+     *
+     * @param schemaName the schema name
+     * @param fieldName the name of the array field
+     * @return this ResponseWrapper for method chaining
+     * @throws AssertionError if an element does not match the schema
+     * @see SchemaValidator#validateArrayElements(String, String, java.io.InputStream)
+     */
+    public ResponseWrapper expectingArraySchema(final String schemaName, final String fieldName) {
+        SchemaValidator.getInstance().validateArrayElements(schemaName, fieldName, response.getBody().asInputStream());
+        return this;
+    }
+
     /**
      * Reads and deserializes the response body as an error entity.
      *
@@ -88,17 +142,18 @@ public final class ResponseWrapper {
      * @throws IllegalStateException if the response body is empty or cannot be deserialized
      */
     public <E> E readError(final Class<E> errorClass) {
-        String body = response.getBody().asString();
-        if (body == null || body.isEmpty()) {
+        byte[] bytes = response.getBody().asByteArray();
+        if (bytes == null || bytes.length == 0) {
             LOGGER.error("Response body is empty; cannot map to error class {}", errorClass.getSimpleName());
             throw new IllegalStateException("Response body is empty; cannot map to " + errorClass.getSimpleName());
         }
 
         try {
-            E errorEntity = response.getBody().as(errorClass);
+            E errorEntity = JsonSupport.readerFor(errorClass).readValue(bytes);
             LOGGER.debug("Successfully deserialized error response to {}: {}", errorClass.getSimpleName(), errorEntity);
             return errorEntity;
-        } catch (Exception e) {
+        } catch (IOException e) {
+            String body = getBodyAsString();
             LOGGER.error("Failed to parse error body to {}. Raw response: {}", errorClass.getSimpleName(), body, e);
             throw new IllegalStateException("Failed to parse error body to " + errorClass.getSimpleName()
                     + ". Raw response: " + body, e);
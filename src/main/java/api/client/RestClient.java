@@ -1,8 +1,8 @@
 package api.client;
 
-import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
 import io.restassured.config.LogConfig;
 import io.restassured.config.RestAssuredConfig;
 import io.restassured.response.Response;
@@ -23,9 +23,8 @@ public abstract class RestClient {
     private static final Logger LOGGER = LogManager.getLogger(RestClient.class);
     
     protected final Configuration configuration;
+    private final Throttle throttle;
     private final RequestSpecification requestSpecification;
-    private final RestAssuredConfig restAssuredConfig = RestAssured.config()
-            .logConfig(LogConfig.logConfig().enableLoggingOfRequestAndResponseIfValidationFails());
 
     /**
      * Abstract method to provide default configuration for the client.
@@ -35,29 +34,67 @@ public abstract class RestClient {
     protected abstract Configuration defaultConfiguration();
 
     /**
-     * Constructor that initializes the REST client with configuration.
+     * Constructor that initializes the REST client with the default configuration.
      */
     protected RestClient() {
-        this.configuration = defaultConfiguration();
+        this(null);
+    }
+
+    /**
+     * Constructor that initializes the REST client with the given configuration.
+     *
+     * @param configuration the configuration, or null to use {@link #defaultConfiguration()}
+     */
+    protected RestClient(final Configuration configuration) {
+        this.configuration = configuration != null ? configuration : defaultConfiguration();
+        this.throttle = Throttle.of(this.configuration);
         this.requestSpecification = initializeRequestSpecification();
-        LOGGER.info("RestClient initialized with service path: {}", configuration.getServicePath());
+        LOGGER.info("RestClient initialized with service path: {}", this.configuration.getServicePath());
     }
 
     /**
-     * Initializes the request specification with Allure integration and logging.
+     * Initializes the request specification with throttling, Allure integration, logging, metrics and exchange
+     * recording or replay as configured.
      *
      * @return the configured RequestSpecification
      */
     private RequestSpecification initializeRequestSpecification() {
         LOGGER.debug("Initializing request specification for service path: {}", configuration.getServicePath());
         
-        return new RequestSpecBuilder()
-                .setConfig(restAssuredConfig)
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setConfig(restAssuredConfig())
                 .setBaseUri(configuration.getServicePath())
                 .setContentType(configuration.getContentType())
-                .log(io.restassured.filter.log.LogDetail.ALL)
-                .addFilter(new AllureRestAssured())
-                .build();
+                .addFilter(new LoggingFilter(configuration.getLogPolicy(), configuration.getMaxLoggedBodyLength()));
+        if (configuration.getAllureAttachmentMode() != AllureAttachmentMode.OFF) {
+            builder.addFilter(new AllureAttachmentFilter(configuration.getAllureAttachmentMode(),
+                    configuration.getAllureSampleRate(), configuration.getMaxAttachmentBodyLength()));
+        }
+        if (configuration.isMetricsEnabled()) {
+            builder.addFilter(new MetricsFilter(RequestMetrics.getInstance()));
+        }
+        ExchangeFilter exchangeFilter = ExchangeFilter.of(configuration);
+        if (exchangeFilter != null) {
+            // Added after the metrics filter, so that it sorts closest to the wire among the lowest precedence filters
+            builder.addFilter(exchangeFilter);
+        }
+        if (throttle != null) {
+            builder.addFilter(new ThrottlingFilter(throttle,
+                    configuration.isMetricsEnabled() ? RequestMetrics.getInstance() : null));
+        }
+        return builder.build();
+    }
+
+    private RestAssuredConfig restAssuredConfig() {
+        RestAssuredConfig config = RestAssured.config()
+                .logConfig(LogConfig.logConfig().enableLoggingOfRequestAndResponseIfValidationFails());
+        if (configuration.getRequestTimeoutMillis() > 0) {
+            int timeout = (int) Math.min(Integer.MAX_VALUE, configuration.getRequestTimeoutMillis());
+            config = config.httpClient(HttpClientConfig.httpClientConfig()
+                    .setParam("http.connection.timeout", timeout)
+                    .setParam("http.socket.timeout", timeout));
+        }
+        return config;
     }
 
     /**
@@ -69,4 +106,22 @@ public abstract class RestClient {
         return requestSpecification;
     }
 
+    /**
+     * Gets the configuration this client was built with.
+     *
+     * @return the configuration
+     */
+    public Configuration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Gets the client-side rate and concurrency limits of this client, e.g. to report how long requests waited.
+     *
+     * @return the throttle, or null if the configuration sets no limits
+     */
+    public Throttle getThrottle() {
+        return throttle;
+    }
+
 }
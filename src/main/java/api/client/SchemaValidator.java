@@ -0,0 +1,147 @@
+package api.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.LogLevel;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * Validates JSON bodies against the JSON schemas on the classpath.
+ * Each schema is loaded and compiled once and then shared by all threads; compiled schemas are immutable.
+ * <p>
+ * Schema names are resolved under {@value #SCHEMA_DIRECTORY}, so {@code players-schema} refers to
+ * {@code schemas/players-schema.json}. Names containing a slash are taken as classpath paths as they are.
+ */
+public final class SchemaValidator {
+
+    private static final Logger LOGGER = LogManager.getLogger(SchemaValidator.class);
+    private static final String SCHEMA_DIRECTORY = "schemas/";
+    private static final String SCHEMA_EXTENSION = ".json";
+    private static final int MAX_REPORTED_ERRORS = 10;
+    private static final SchemaValidator INSTANCE = new SchemaValidator();
+
+    private final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+    private final ConcurrentMap<String, JsonNode> schemaDocuments = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+
+    private SchemaValidator() {
+        // Use getInstance()
+    }
+
+    public static SchemaValidator getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Validates a whole JSON body.
+     *
+     * @param name the schema name
+     * @param body the JSON body
+     * @throws AssertionError if the body does not match the schema
+     * @throws IllegalStateException if the body is not JSON or the schema cannot be loaded
+     */
+    public void validate(final String name, final byte[] body) {
+        JsonNode document;
+        try {
+            document = JsonSupport.readerFor(JsonNode.class).readTree(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to parse body for schema " + name, e);
+        }
+        ProcessingReport report = schema(name, "").validateUnchecked(document);
+        if (!report.isSuccess()) {
+            throw failure("Response body does not match schema " + name, report);
+        }
+    }
+
+    /**
+     * Validates the elements of an array field of a top-level JSON object one at a time, against the
+     * {@code items} schema of that field. Only the current element is held in memory; the rest of the
+     * top-level object is not validated.
+     *
+     * @param name the schema name
+     * @param fieldName the name of the array field, e.g. {@code players}
+     * @param input the JSON input, closed once read
+     * @return the number of validated elements
+     * @throws AssertionError if an element does not match the schema
+     * @throws IllegalStateException if the input has no such array field or the schema cannot be loaded
+     */
+    public long validateArrayElements(final String name, final String fieldName, final InputStream input) {
+        JsonSchema itemSchema = schema(name, "/properties/" + fieldName + "/items");
+        long index = 0;
+        try (Stream<JsonNode> elements = JsonSupport.streamArrayField(input, fieldName, JsonNode.class)) {
+            Iterator<JsonNode> iterator = elements.iterator();
+            while (iterator.hasNext()) {
+                ProcessingReport report = itemSchema.validateUnchecked(iterator.next());
+                if (!report.isSuccess()) {
+                    throw failure("Element " + index + " of '" + fieldName + "' does not match schema " + name, report);
+                }
+                index++;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Gets the compiled schema at a JSON pointer of a schema document, compiling it on first use.
+     */
+    private JsonSchema schema(final String name, final String pointer) {
+        return schemas.computeIfAbsent(name + '#' + pointer, key -> {
+            JsonNode document = schemaDocuments.computeIfAbsent(name, SchemaValidator::load);
+            try {
+                LOGGER.debug("Compiling schema {} at '{}'", name, pointer);
+                return pointer.isEmpty() ? factory.getJsonSchema(document) : factory.getJsonSchema(document, pointer);
+            } catch (ProcessingException e) {
+                throw new IllegalStateException("Failed to compile schema " + name + " at '" + pointer + "'", e);
+            }
+        });
+    }
+
+    private static JsonNode load(final String name) {
+        String path = resolve(name);
+        try (InputStream input = SchemaValidator.class.getClassLoader().getResourceAsStream(path)) {
+            if (input == null) {
+                throw new IllegalStateException("Schema not found on classpath: " + path);
+            }
+            return JsonSupport.readerFor(JsonNode.class).readTree(input);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read schema: " + path, e);
+        }
+    }
+
+    static String resolve(final String name) {
+        if (name.indexOf('/') >= 0) {
+            return name;
+        }
+        return SCHEMA_DIRECTORY + (name.endsWith(SCHEMA_EXTENSION) ? name : name + SCHEMA_EXTENSION);
+    }
+
+    private static AssertionError failure(final String title, final ProcessingReport report) {
+        StringBuilder message = new StringBuilder(title).append(':');
+        int reported = 0;
+        for (ProcessingMessage error : report) {
+            if (error.getLogLevel().compareTo(LogLevel.ERROR) < 0) {
+                continue;
+            }
+            if (reported++ == MAX_REPORTED_ERRORS) {
+                message.append(System.lineSeparator()).append("  ...");
+                break;
+            }
+            message.append(System.lineSeparator()).append("  ").append(error.getMessage())
+                    .append(" at ").append(error.asJson().path("instance").path("pointer").asText());
+        }
+        LOGGER.error(message);
+        return new AssertionError(message.toString());
+    }
+}
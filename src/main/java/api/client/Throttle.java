@@ -0,0 +1,240 @@
+package api.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side rate and concurrency limits of a client, applied to all of its requests and to each endpoint.
+ * Rates are enforced by {@link RateLimiter}s and concurrency by semaphores, whose uncontended path is a single
+ * compare-and-set. Endpoint limits are taken before the client-wide ones, so a request waiting for a busy
+ * endpoint does not hold a client-wide slot. Blocking clients wait for permits on the sending thread; non-blocking
+ * ones wait on an executor instead.
+ */
+public final class Throttle {
+
+    /**
+     * Permits of a request in the order they are taken: endpoint slot, client slot, endpoint rate, client rate.
+     */
+    private static final int STAGES = 4;
+
+    private final Limit global;
+    private final int endpointRequestsPerSecond;
+    private final int endpointMaxInFlight;
+    private final ConcurrentMap<String, Limit> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    /**
+     * Creates a throttle; a limit of 0 or less means unlimited.
+     *
+     * @param requestsPerSecond the maximum rate of all requests
+     * @param maxInFlight the maximum number of concurrent requests
+     * @param endpointRequestsPerSecond the maximum rate of requests per endpoint
+     * @param endpointMaxInFlight the maximum number of concurrent requests per endpoint
+     */
+    public Throttle(final int requestsPerSecond, final int maxInFlight, final int endpointRequestsPerSecond,
+                    final int endpointMaxInFlight) {
+        this.global = new Limit(requestsPerSecond, maxInFlight);
+        this.endpointRequestsPerSecond = endpointRequestsPerSecond;
+        this.endpointMaxInFlight = endpointMaxInFlight;
+    }
+
+    /**
+     * Creates the throttle for the limits of a configuration.
+     *
+     * @param configuration the client configuration
+     * @return the throttle, or null if the configuration sets no limits
+     */
+    public static Throttle of(final Configuration configuration) {
+        if (configuration.getMaxRequestsPerSecond() <= 0 && configuration.getMaxInFlight() <= 0
+                && configuration.getEndpointMaxRequestsPerSecond() <= 0 && configuration.getEndpointMaxInFlight() <= 0) {
+            return null;
+        }
+        return new Throttle(configuration.getMaxRequestsPerSecond(), configuration.getMaxInFlight(),
+                configuration.getEndpointMaxRequestsPerSecond(), configuration.getEndpointMaxInFlight());
+    }
+
+    /**
+     * Waits until a request to the endpoint may be sent. Every successful call must be paired with
+     * {@link #release(String)}.
+     *
+     * @param endpoint the endpoint key, e.g. {@code GET /player/getAll}
+     * @return the time spent waiting in nanoseconds
+     * @throws IllegalStateException if the thread is interrupted while waiting
+     */
+    public long acquire(final String endpoint) {
+        return acquireFrom(0, System.nanoTime(), endpointLimit(endpoint), false);
+    }
+
+    /**
+     * Acquires the permits for a request to the endpoint without blocking the caller. The permits that are free are
+     * taken on the calling thread; once one is not, the rest are waited for on the executor. Every successfully
+     * completed future must be paired with {@link #release(String)}.
+     *
+     * @param endpoint the endpoint key, e.g. {@code GET /player/getAll}
+     * @param executor the executor to wait for permits on
+     * @return a future completed with the time spent waiting in nanoseconds, at once if nothing had to be waited for
+     */
+    public CompletableFuture<Long> acquireAsync(final String endpoint, final Executor executor) {
+        long start = System.nanoTime();
+        Limit endpointLimit = endpointLimit(endpoint);
+        for (int stage = 0; stage < STAGES; stage++) {
+            if (!tryAcquireStage(stage, endpointLimit)) {
+                int from = stage;
+                try {
+                    return CompletableFuture.supplyAsync(() -> acquireFrom(from, start, endpointLimit, true), executor);
+                } catch (RuntimeException e) {
+                    releaseSlotsBefore(from, endpointLimit);
+                    throw e;
+                }
+            }
+        }
+        return CompletableFuture.completedFuture(record(start, false));
+    }
+
+    /**
+     * Takes the remaining permits of a request, waiting as needed. Endpoint slots are taken before client-wide ones,
+     * and rates last so that requests leave at the limited rate, not when they got a slot. If waiting fails, the slots
+     * already taken are released.
+     */
+    private long acquireFrom(final int from, final long start, final Limit endpointLimit, final boolean waitedBefore) {
+        boolean waited = waitedBefore;
+        int stage = from;
+        try {
+            for (; stage < STAGES; stage++) {
+                Limit limit = stage % 2 == 0 ? endpointLimit : global;
+                waited |= stage < 2 ? limit.acquireSlot() : limit.acquireRate();
+            }
+        } catch (RuntimeException e) {
+            releaseSlotsBefore(stage, endpointLimit);
+            throw e;
+        }
+        return record(start, waited);
+    }
+
+    private boolean tryAcquireStage(final int stage, final Limit endpointLimit) {
+        Limit limit = stage % 2 == 0 ? endpointLimit : global;
+        return stage < 2 ? limit.tryAcquireSlot() : limit.tryAcquireRate();
+    }
+
+    private void releaseSlotsBefore(final int stage, final Limit endpointLimit) {
+        if (stage > 1) {
+            global.releaseSlot();
+        }
+        if (stage > 0) {
+            endpointLimit.releaseSlot();
+        }
+    }
+
+    private long record(final long start, final boolean waited) {
+        long waitedNanos = waited ? System.nanoTime() - start : 0;
+        requests.increment();
+        if (waited) {
+            throttled.increment();
+            waitNanos.add(waitedNanos);
+        }
+        return waitedNanos;
+    }
+
+    /**
+     * Releases the concurrency slots taken by {@link #acquire(String)} or {@link #acquireAsync(String, Executor)}.
+     *
+     * @param endpoint the endpoint key
+     */
+    public void release(final String endpoint) {
+        global.releaseSlot();
+        endpointLimit(endpoint).releaseSlot();
+    }
+
+    private Limit endpointLimit(final String endpoint) {
+        if (endpointRequestsPerSecond <= 0 && endpointMaxInFlight <= 0) {
+            return Limit.NONE;
+        }
+        Limit limit = endpoints.get(endpoint);
+        return limit != null ? limit
+                : endpoints.computeIfAbsent(endpoint, key -> new Limit(endpointRequestsPerSecond, endpointMaxInFlight));
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Gets the number of requests that had to wait for a permit.
+     *
+     * @return the throttled request count
+     */
+    public long getThrottled() {
+        return throttled.sum();
+    }
+
+    /**
+     * Gets the total time requests spent waiting for permits.
+     *
+     * @return the wait time in milliseconds
+     */
+    public double getWaitMillis() {
+        return waitNanos.sum() / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return "Throttle{" +
+                "requests=" + getRequests() +
+                ", throttled=" + getThrottled() +
+                ", waitMillis=" + getWaitMillis() +
+                '}';
+    }
+
+    /**
+     * Rate and concurrency limit of one scope, either of which may be absent.
+     */
+    private static final class Limit {
+
+        private static final Limit NONE = new Limit(0, 0);
+
+        private final RateLimiter rateLimiter;
+        private final Semaphore inFlight;
+
+        private Limit(final int requestsPerSecond, final int maxInFlight) {
+            this.rateLimiter = requestsPerSecond > 0 ? new RateLimiter(requestsPerSecond) : null;
+            this.inFlight = maxInFlight > 0 ? new Semaphore(maxInFlight) : null;
+        }
+
+        private boolean acquireSlot() {
+            if (inFlight == null || inFlight.tryAcquire()) {
+                return false;
+            }
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a request slot", e);
+            }
+            return true;
+        }
+
+        private boolean tryAcquireSlot() {
+            return inFlight == null || inFlight.tryAcquire();
+        }
+
+        private boolean acquireRate() {
+            return rateLimiter != null && rateLimiter.acquire();
+        }
+
+        private boolean tryAcquireRate() {
+            return rateLimiter == null || rateLimiter.tryAcquire();
+        }
+
+        private void releaseSlot() {
+            if (inFlight != null) {
+                inFlight.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package api.client;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * REST Assured filter holding every exchange until the {@link Throttle} lets it through.
+ * It runs first, so the time spent waiting is neither logged nor part of the latency recorded by {@link MetricsFilter};
+ * it is recorded separately as throttle wait when metrics are enabled.
+ */
+public final class ThrottlingFilter implements OrderedFilter {
+
+    private final Throttle throttle;
+    private final RequestMetrics metrics;
+
+    /**
+     * Creates a new throttling filter.
+     *
+     * @param throttle the throttle
+     * @param metrics the metrics to record wait times into, or null to not record them
+     */
+    public ThrottlingFilter(final Throttle throttle, final RequestMetrics metrics) {
+        this.throttle = throttle;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Response filter(final FilterableRequestSpecification requestSpec,
+                           final FilterableResponseSpecification responseSpec,
+                           final FilterContext ctx) {
+        String endpoint = requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath();
+        long waitNanos = throttle.acquire(endpoint);
+        try {
+            if (metrics != null) {
+                metrics.endpoint(requestSpec.getMethod(), requestSpec.getUserDefinedPath()).recordThrottleWait(waitNanos);
+            }
+            return ctx.next(requestSpec, responseSpec);
+        } finally {
+            throttle.release(endpoint);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+}
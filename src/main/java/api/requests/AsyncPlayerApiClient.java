@@ -0,0 +1,125 @@
+package api.requests;
+
+import api.client.AsyncRestClient;
+import api.client.ClientRegistry;
+import api.client.Configuration;
+import api.client.ResponseWrapper;
+import api.model.request.Player;
+import api.model.response.PlayerShortResponse;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Non-blocking API client for Player-related operations.
+ * Mirrors {@link PlayerApiClient} but returns futures, so a single thread can keep
+ * many player operations in flight.
+ */
+public final class AsyncPlayerApiClient extends AsyncRestClient {
+
+    private static final Logger LOGGER = LogManager.getLogger(AsyncPlayerApiClient.class);
+
+    /**
+     * Creates a client with the default configuration.
+     * Prefer {@link #shared()} so the client is built once per configuration.
+     */
+    public AsyncPlayerApiClient() {
+        super();
+    }
+
+    /**
+     * Creates a client with the given configuration.
+     *
+     * @param configuration the client configuration
+     */
+    public AsyncPlayerApiClient(final Configuration configuration) {
+        super(configuration);
+    }
+
+    /**
+     * Gets the shared client for the default configuration.
+     *
+     * @return the shared client
+     */
+    public static AsyncPlayerApiClient shared() {
+        return shared(PlayerApiClient.createDefaultConfiguration());
+    }
+
+    /**
+     * Gets the shared client for the given configuration.
+     *
+     * @param configuration the client configuration
+     * @return the shared client
+     */
+    public static AsyncPlayerApiClient shared(final Configuration configuration) {
+        return ClientRegistry.getClient(AsyncPlayerApiClient.class, configuration, AsyncPlayerApiClient::new);
+    }
+
+    @Override
+    protected Configuration defaultConfiguration() {
+        return PlayerApiClient.createDefaultConfiguration();
+    }
+
+    public CompletableFuture<ResponseWrapper> createPlayer(final String editor, final Player player) {
+        LOGGER.info("Creating player asynchronously with editor: {}", editor);
+        LOGGER.debug("Player to create: {}", player);
+
+        Map<String, Object> queryParams = new LinkedHashMap<>();
+        queryParams.put("age", player.getAge());
+        queryParams.put("gender", player.getGender());
+        queryParams.put("login", player.getLogin());
+        queryParams.put("password", player.getPassword());
+        queryParams.put("role", player.getRole());
+        queryParams.put("screenName", player.getScreenName());
+
+        return sendAsync("POST", "/player/create",
+                newRequest("/player/create" + queryString(queryParams)).header("editor", editor), null);
+    }
+
+    public CompletableFuture<ResponseWrapper> getPlayer(final Integer playerId) {
+        LOGGER.info("Getting player asynchronously with ID: {}", playerId);
+
+        return sendAsync("POST", "/player/get", newRequest("/player/get"),
+                Collections.singletonMap("playerId", playerId));
+    }
+
+    public CompletableFuture<ResponseWrapper> getAllPlayers() {
+        LOGGER.info("Getting all players asynchronously");
+
+        return sendAsync("GET", "/player/getAll", newRequest("/player/getAll"), null);
+    }
+
+    /**
+     * Streams all players straight from the connection, one element at a time.
+     * The returned stream must be closed to release the connection.
+     *
+     * @return a future completed with a lazy stream of all players
+     */
+    public CompletableFuture<Stream<PlayerShortResponse>> streamAllPlayers() {
+        LOGGER.info("Streaming all players asynchronously");
+
+        return streamArrayAsync("/player/getAll", newRequest("/player/getAll"), 200, "players",
+                PlayerShortResponse.class);
+    }
+
+    public CompletableFuture<ResponseWrapper> updatePlayer(final String editor, final Integer playerId,
+                                                           final Player updatePlayer) {
+        LOGGER.info("Updating player asynchronously with editor: {}, playerId: {}", editor, playerId);
+        LOGGER.debug("Player update: {}", updatePlayer);
+
+        return sendAsync("PATCH", "/player/update/{editor}/{id}",
+                newRequest("/player/update/" + pathSegment(editor) + "/" + pathSegment(playerId)), updatePlayer);
+    }
+
+    public CompletableFuture<ResponseWrapper> deletePlayer(final String editor, final Integer playerId) {
+        LOGGER.info("Deleting player asynchronously with editor: {}, playerId: {}", editor, playerId);
+
+        return sendAsync("DELETE", "/player/delete/{editor}/{id}",
+                newRequest("/player/delete/" + pathSegment(editor) + "/" + pathSegment(playerId)), null);
+    }
+}
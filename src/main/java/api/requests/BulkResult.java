@@ -0,0 +1,150 @@
+package api.requests;
+
+import api.client.ResponseWrapper;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Outcome of a bulk operation.
+ * Holds a per-item result in input order together with aggregate timing.
+ *
+ * @param <T> the type of the bulk operation input items
+ */
+public final class BulkResult<T> {
+
+    private final String operation;
+    private final List<Item<T>> items;
+    private final Duration elapsed;
+
+    BulkResult(final String operation, final List<Item<T>> items, final Duration elapsed) {
+        this.operation = operation;
+        this.items = Collections.unmodifiableList(items);
+        this.elapsed = elapsed;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public List<Item<T>> getItems() {
+        return items;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Gets the items that completed with a 2xx status code.
+     *
+     * @return the successful items
+     */
+    public List<Item<T>> getSucceeded() {
+        return items.stream().filter(Item::isSuccessful).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the items that failed with an exception or a non-2xx status code.
+     *
+     * @return the failed items
+     */
+    public List<Item<T>> getFailed() {
+        return items.stream().filter(item -> !item.isSuccessful()).collect(Collectors.toList());
+    }
+
+    public boolean allSucceeded() {
+        return items.stream().allMatch(Item::isSuccessful);
+    }
+
+    /**
+     * Gets the achieved throughput over the whole operation.
+     *
+     * @return the number of completed items per second
+     */
+    public double getThroughputPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : items.size() * 1_000_000_000d / nanos;
+    }
+
+    /**
+     * Gets the mean latency of a single item.
+     *
+     * @return the mean item latency
+     */
+    public Duration getMeanLatency() {
+        return Duration.ofNanos((long) items.stream().mapToLong(Item::getLatencyNanos).average().orElse(0));
+    }
+
+    @Override
+    public String toString() {
+        return "BulkResult{" +
+                "operation='" + operation + '\'' +
+                ", items=" + items.size() +
+                ", failed=" + getFailed().size() +
+                ", elapsed=" + elapsed +
+                ", meanLatency=" + getMeanLatency() +
+                '}';
+    }
+
+    /**
+     * Result of a single bulk item.
+     *
+     * @param <T> the type of the input item
+     */
+    public static final class Item<T> {
+        private final T input;
+        private final ResponseWrapper response;
+        private final Throwable failure;
+        private final long latencyNanos;
+
+        Item(final T input, final ResponseWrapper response, final Throwable failure, final long latencyNanos) {
+            this.input = input;
+            this.response = response;
+            this.failure = failure;
+            this.latencyNanos = latencyNanos;
+        }
+
+        public T getInput() {
+            return input;
+        }
+
+        /**
+         * Gets the response, or null if the request failed without one.
+         *
+         * @return the response
+         */
+        public ResponseWrapper getResponse() {
+            return response;
+        }
+
+        /**
+         * Gets the failure cause, or null if a response was received.
+         *
+         * @return the failure
+         */
+        public Throwable getFailure() {
+            return failure;
+        }
+
+        public long getLatencyNanos() {
+            return latencyNanos;
+        }
+
+        public boolean isSuccessful() {
+            return response != null && response.getStatusCode() / 100 == 2;
+        }
+
+        @Override
+        public String toString() {
+            return "Item{" +
+                    "input=" + input +
+                    ", status=" + (response != null ? response.getStatusCode() : null) +
+                    ", failure=" + failure +
+                    ", latencyNanos=" + latencyNanos +
+                    '}';
+        }
+    }
+}
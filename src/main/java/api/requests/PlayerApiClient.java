@@ -1,117 +1,266 @@
 package api.requests;
 
+import api.client.AllureAttachmentMode;
+import api.client.ClientRegistry;
 import api.client.Configuration;
+import api.client.ExchangeMode;
+import api.client.LogPolicy;
+import api.client.ResilientCallExecutor;
+import api.client.ResponseCache;
 import api.client.ResponseWrapper;
 import api.client.RestClient;
 import api.model.request.Player;
 import api.model.response.PlayerResponse;
+import api.model.response.PlayerShortResponse;
 import api.model.response.PlayersResponse;
+import api.stub.PlayerStubServer;
 import common.PropertiesReader;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
+import static common.Properties.ALLURE_ATTACHMENT_MAX_BODY_LENGTH;
+import static common.Properties.ALLURE_ATTACHMENT_MODE;
+import static common.Properties.ALLURE_ATTACHMENT_SAMPLE_RATE;
 import static common.Properties.BASE_URL;
-import static io.restassured.RestAssured.given;
+import static common.Properties.HTTP_CACHE_MAX_SIZE;
+import static common.Properties.HTTP_CACHE_TTL_MILLIS;
+import static common.Properties.HTTP_ENDPOINT_MAX_IN_FLIGHT;
+import static common.Properties.HTTP_ENDPOINT_MAX_REQUESTS_PER_SECOND;
+import static common.Properties.HTTP_EXCHANGE_LOG_FILE;
+import static common.Properties.HTTP_EXCHANGE_MODE;
+import static common.Properties.HTTP_LOG_MAX_BODY_LENGTH;
+import static common.Properties.HTTP_LOG_POLICY;
+import static common.Properties.HTTP_MAX_IN_FLIGHT;
+import static common.Properties.HTTP_MAX_REQUESTS_PER_SECOND;
+import static common.Properties.HTTP_HEDGING_ENABLED;
+import static common.Properties.HTTP_METRICS_ENABLED;
+import static common.Properties.HTTP_RETRY_BACKOFF_MILLIS;
+import static common.Properties.TEST_RETRY_COUNT;
+import static common.Properties.TEST_TIMEOUT;
 
 /**
  * API client for Player-related operations.
  * Provides methods for CRUD operations on players with Allure step annotations.
+ * Requests are sent through the precompiled {@link PlayerEndpoint} templates.
+ * <p>
+ * If {@link Configuration#getCacheMaxSize()} is positive, successful {@link #getPlayer(Integer)} responses are cached
+ * and invalidated by {@link #updatePlayer(String, Integer, Player)} and {@link #deletePlayer(String, Integer)}
+ * made through the same client. Tests that must observe changes made elsewhere use {@link #getPlayer(Integer, boolean)}.
  */
 public final class PlayerApiClient extends RestClient {
     
     private static final Logger LOGGER = LogManager.getLogger(PlayerApiClient.class);
 
+    private final ResponseCache<Integer> playerCache;
+    private final ResilientCallExecutor resilience;
+
+    /**
+     * Creates a client with the default configuration.
+     * Prefer {@link #shared()} so the client is built once per configuration.
+     */
+    public PlayerApiClient() {
+        super();
+        this.playerCache = createPlayerCache(configuration);
+        this.resilience = new ResilientCallExecutor(configuration);
+    }
+
+    /**
+     * Creates a client with the given configuration.
+     *
+     * @param configuration the client configuration
+     */
+    public PlayerApiClient(final Configuration configuration) {
+        super(configuration);
+        this.playerCache = createPlayerCache(configuration);
+        this.resilience = new ResilientCallExecutor(configuration);
+    }
+
+    /**
+     * Gets the shared client for the default configuration.
+     *
+     * @return the shared client
+     */
+    public static PlayerApiClient shared() {
+        return shared(createDefaultConfiguration());
+    }
+
+    /**
+     * Gets the shared client for the given configuration.
+     *
+     * @param configuration the client configuration
+     * @return the shared client
+     */
+    public static PlayerApiClient shared(final Configuration configuration) {
+        return ClientRegistry.getClient(PlayerApiClient.class, configuration, PlayerApiClient::new);
+    }
+
     @Override
     protected Configuration defaultConfiguration() {
-        String baseUrl = PropertiesReader.getProperty(BASE_URL);
+        return createDefaultConfiguration();
+    }
+
+    /**
+     * Creates the default player API configuration from the configuration properties.
+     * A {@code base.url} of {@value PlayerStubServer#BASE_URL_SWITCH} targets the shared in-process stub server.
+     *
+     * @return the default configuration
+     */
+    static Configuration createDefaultConfiguration() {
+        String baseUrl = PlayerStubServer.resolveBaseUrl(PropertiesReader.getProperty(BASE_URL));
         LOGGER.debug("Creating configuration with base URL: {}", baseUrl);
         
         return Configuration.builder()
                 .servicePath(baseUrl)
                 .contentType("application/json")
+                .logPolicy(LogPolicy.valueOf(PropertiesReader.getProperty(HTTP_LOG_POLICY, LogPolicy.ALL.name())
+                        .toUpperCase(Locale.ROOT)))
+                .maxLoggedBodyLength(PropertiesReader.getIntProperty(HTTP_LOG_MAX_BODY_LENGTH, -1))
+                .allureAttachmentMode(AllureAttachmentMode.valueOf(PropertiesReader
+                        .getProperty(ALLURE_ATTACHMENT_MODE, AllureAttachmentMode.ALWAYS.name()).toUpperCase(Locale.ROOT)))
+                .allureSampleRate(PropertiesReader.getIntProperty(ALLURE_ATTACHMENT_SAMPLE_RATE, 1))
+                .maxAttachmentBodyLength(PropertiesReader.getIntProperty(ALLURE_ATTACHMENT_MAX_BODY_LENGTH, -1))
+                .metricsEnabled(Boolean.parseBoolean(PropertiesReader.getProperty(HTTP_METRICS_ENABLED, "true")))
+                .cacheMaxSize(PropertiesReader.getIntProperty(HTTP_CACHE_MAX_SIZE, 0))
+                .cacheTtlMillis(PropertiesReader.getIntProperty(HTTP_CACHE_TTL_MILLIS, 5_000))
+                .retryCount(PropertiesReader.getIntProperty(TEST_RETRY_COUNT, 2))
+                .retryBackoffMillis(PropertiesReader.getIntProperty(HTTP_RETRY_BACKOFF_MILLIS, 100))
+                .requestTimeoutMillis(TimeUnit.SECONDS.toMillis(PropertiesReader.getIntProperty(TEST_TIMEOUT, 30)))
+                .hedgingEnabled(Boolean.parseBoolean(PropertiesReader.getProperty(HTTP_HEDGING_ENABLED, "false")))
+                .maxRequestsPerSecond(PropertiesReader.getIntProperty(HTTP_MAX_REQUESTS_PER_SECOND, 0))
+                .maxInFlight(PropertiesReader.getIntProperty(HTTP_MAX_IN_FLIGHT, 0))
+                .endpointMaxRequestsPerSecond(PropertiesReader.getIntProperty(HTTP_ENDPOINT_MAX_REQUESTS_PER_SECOND, 0))
+                .endpointMaxInFlight(PropertiesReader.getIntProperty(HTTP_ENDPOINT_MAX_IN_FLIGHT, 0))
+                .exchangeMode(ExchangeMode.valueOf(PropertiesReader.getProperty(HTTP_EXCHANGE_MODE, ExchangeMode.OFF.name())
+                        .toUpperCase(Locale.ROOT)))
+                .exchangeLogFile(PropertiesReader.getProperty(HTTP_EXCHANGE_LOG_FILE, "target/http-exchanges.bin"))
                 .build();
     }
 
+    private static ResponseCache<Integer> createPlayerCache(final Configuration configuration) {
+        return configuration.getCacheMaxSize() > 0
+                ? new ResponseCache<>(configuration.getCacheMaxSize(), configuration.getCacheTtlMillis())
+                : null;
+    }
+
+    /**
+     * Gets the cache of {@link #getPlayer(Integer)} responses, e.g. to report its hit rate.
+     *
+     * @return the cache, or null if caching is disabled
+     */
+    public ResponseCache<Integer> getPlayerCache() {
+        return playerCache;
+    }
+
+    /**
+     * Gets the executor of the idempotent reads, e.g. to report how often they were retried or hedged.
+     *
+     * @return the executor
+     */
+    public ResilientCallExecutor getResilience() {
+        return resilience;
+    }
+
     @Step("Create player with editor: {editor}")
     public ResponseWrapper createPlayer(final String editor, final Player player) {
-        LOGGER.info("Creating player with editor: {}, player: {}", editor, player);
-        
-        Map<String, Object> queryParams = new HashMap<>();
-        queryParams.put("age", player.getAge());
-        queryParams.put("gender", player.getGender());
-        queryParams.put("login", player.getLogin());
-        queryParams.put("password", player.getPassword());
-        queryParams.put("role", player.getRole());
-        queryParams.put("screenName", player.getScreenName());
+        LOGGER.info("Creating player with editor: {}", editor);
+        LOGGER.debug("Player to create: {}", player);
         
-        Response response = given()
-                .spec(getRequestSpecification())
-                .header("editor", editor)
-                .queryParams(queryParams)
-                .post("/player/create");
-        
-        return new ResponseWrapper(response);
+        return new ResponseWrapper(PlayerEndpoint.CREATE.send(getRequestSpecification(), editor, null, player));
     }
 
     @Step("Get player with ID: {playerId}")
     public ResponseWrapper getPlayer(final Integer playerId) {
+        return getPlayer(playerId, false);
+    }
+
+    /**
+     * Gets a player, optionally skipping the cache. A response fetched with {@code bypassCache} still refreshes it.
+     *
+     * @param playerId the player ID
+     * @param bypassCache whether to always ask the service
+     * @return the response
+     */
+    @Step("Get player with ID: {playerId}, bypassing cache: {bypassCache}")
+    public ResponseWrapper getPlayer(final Integer playerId, final boolean bypassCache) {
+        if (playerCache != null && !bypassCache) {
+            ResponseWrapper cached = playerCache.get(playerId);
+            if (cached != null) {
+                LOGGER.debug("Cache hit for player with ID: {}", playerId);
+                return cached;
+            }
+        }
         LOGGER.info("Getting player with ID: {}", playerId);
+        long cacheGeneration = playerCache != null ? playerCache.generation() : 0;
         
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("playerId", playerId);
-        
-        Response response = given()
-                .spec(getRequestSpecification())
-                .body(requestBody)
-                .post("/player/get");
-        
-        return new ResponseWrapper(response);
+        Response response = resilience.execute("getPlayer",
+                () -> PlayerEndpoint.GET.send(getRequestSpecification(), null, playerId, null));
+        ResponseWrapper wrapper = new ResponseWrapper(response);
+        if (playerCache != null && response.getStatusCode() == 200) {
+            playerCache.put(playerId, wrapper, cacheGeneration);
+        }
+        return wrapper;
     }
 
     @Step("Get all players")
     public ResponseWrapper getAllPlayers() {
         LOGGER.info("Getting all players");
         
-        Response response = given()
-                .spec(getRequestSpecification())
-                .get("/player/getAll");
-        
-        return new ResponseWrapper(response);
+        return new ResponseWrapper(resilience.execute("getAllPlayers",
+                () -> PlayerEndpoint.GET_ALL.send(getRequestSpecification(), null, null, null)));
+    }
+
+    /**
+     * Gets all players and streams them one element at a time instead of mapping the whole
+     * {@link PlayersResponse} list. The returned stream should be closed once consumed.
+     *
+     * @return a lazy stream of all players
+     * @throws AssertionError if the service does not respond with 200
+     */
+    @Step("Stream all players")
+    public Stream<PlayerShortResponse> streamAllPlayers() {
+        return getAllPlayers()
+                .expectingStatusCode(200)
+                .streamArray("players", PlayerShortResponse.class);
     }
 
     @Step("Update player with editor: {editor}, playerId: {playerId}")
     public ResponseWrapper updatePlayer(final String editor, final Integer playerId, final Player updatePlayer) {
-        LOGGER.info("Updating player with editor: {}, playerId: {}, player: {}", editor, playerId, updatePlayer);
-        
-        Map<String, Object> pathParams = new HashMap<>();
-        pathParams.put("editor", editor);
-        pathParams.put("id", playerId);
-        
-        Response response = given()
-                .spec(getRequestSpecification())
-                .pathParams(pathParams)
-                .body(updatePlayer)
-                .patch("/player/update/{editor}/{id}");
+        LOGGER.info("Updating player with editor: {}, playerId: {}", editor, playerId);
+        LOGGER.debug("Player update: {}", updatePlayer);
         
-        return new ResponseWrapper(response);
+        invalidateCachedPlayer(playerId);
+        try {
+            return new ResponseWrapper(PlayerEndpoint.UPDATE.send(getRequestSpecification(), editor, playerId,
+                    updatePlayer));
+        } finally {
+            invalidateCachedPlayer(playerId);
+        }
     }
 
     @Step("Delete player with editor: {editor}, playerId: {playerId}")
     public Response deletePlayer(final String editor, final Integer playerId) {
         LOGGER.info("Deleting player with editor: {}, playerId: {}", editor, playerId);
         
-        Map<String, Object> pathParams = new HashMap<>();
-        pathParams.put("editor", editor);
-        pathParams.put("id", playerId);
-        
-        return given()
-                .spec(getRequestSpecification())
-                .pathParams(pathParams)
-                .delete("/player/delete/{editor}/{id}");
+        invalidateCachedPlayer(playerId);
+        try {
+            return PlayerEndpoint.DELETE.send(getRequestSpecification(), editor, playerId, null);
+        } finally {
+            invalidateCachedPlayer(playerId);
+        }
+    }
+
+    /**
+     * Drops a cached player before and after a write, so that reads racing with the write are not cached.
+     */
+    private void invalidateCachedPlayer(final Integer playerId) {
+        if (playerCache != null) {
+            playerCache.invalidate(playerId);
+        }
     }
 }
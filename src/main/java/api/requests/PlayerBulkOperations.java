@@ -0,0 +1,145 @@
+package api.requests;
+
+import api.client.ResponseWrapper;
+import api.model.request.Player;
+import common.PropertiesReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import static common.Properties.BULK_MAX_CONCURRENCY;
+
+/**
+ * Facade for provisioning and removing players in bulk.
+ * Requests are issued through {@link AsyncPlayerApiClient} as a sliding window that keeps
+ * at most {@code maxConcurrency} requests in flight.
+ */
+public final class PlayerBulkOperations {
+
+    private static final Logger LOGGER = LogManager.getLogger(PlayerBulkOperations.class);
+
+    private final AsyncPlayerApiClient client;
+    private final int maxConcurrency;
+
+    private PlayerBulkOperations(final AsyncPlayerApiClient client, final int maxConcurrency) {
+        this.client = client;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Creates all given players.
+     *
+     * @param editor the editor login
+     * @param players the players to create
+     * @return per-player results in input order
+     */
+    public BulkResult<Player> createPlayers(final String editor, final List<Player> players) {
+        return execute("createPlayers", players, player -> client.createPlayer(editor, player));
+    }
+
+    /**
+     * Deletes all given players.
+     *
+     * @param editor the editor login
+     * @param playerIds the IDs of the players to delete
+     * @return per-ID results in iteration order
+     */
+    public BulkResult<Integer> deletePlayers(final String editor, final Collection<Integer> playerIds) {
+        return execute("deletePlayers", playerIds, playerId -> client.deletePlayer(editor, playerId));
+    }
+
+    private <T> BulkResult<T> execute(final String operation, final Collection<T> inputs,
+                                      final Function<T, CompletableFuture<ResponseWrapper>> call) {
+        LOGGER.info("Starting {} for {} items with max concurrency {}", operation, inputs.size(), maxConcurrency);
+
+        Semaphore permits = new Semaphore(maxConcurrency);
+        @SuppressWarnings("unchecked")
+        BulkResult.Item<T>[] items = new BulkResult.Item[inputs.size()];
+        CompletableFuture<?>[] futures = new CompletableFuture[inputs.size()];
+        long start = System.nanoTime();
+
+        int index = 0;
+        for (T input : inputs) {
+            acquire(permits);
+            int slot = index++;
+            long itemStart = System.nanoTime();
+            CompletableFuture<ResponseWrapper> future;
+            try {
+                future = call.apply(input);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures[slot] = future.handle((response, failure) -> {
+                items[slot] = new BulkResult.Item<>(input, response, unwrap(failure), System.nanoTime() - itemStart);
+                permits.release();
+                return null;
+            });
+        }
+
+        CompletableFuture.allOf(futures).join();
+        BulkResult<T> result = new BulkResult<>(operation, new ArrayList<>(Arrays.asList(items)),
+                Duration.ofNanos(System.nanoTime() - start));
+        LOGGER.info("Finished {}", result);
+        return result;
+    }
+
+    private static void acquire(final Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a free request slot", e);
+        }
+    }
+
+    private static Throwable unwrap(final Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    /**
+     * Builder class for PlayerBulkOperations.
+     */
+    public static final class Builder {
+        private AsyncPlayerApiClient client;
+        private int maxConcurrency = PropertiesReader.getIntProperty(BULK_MAX_CONCURRENCY, 32);
+
+        public Builder client(final AsyncPlayerApiClient client) {
+            this.client = client;
+            return this;
+        }
+
+        public Builder maxConcurrency(final int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public PlayerBulkOperations build() {
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+            }
+            return new PlayerBulkOperations(client != null ? client : AsyncPlayerApiClient.shared(), maxConcurrency);
+        }
+    }
+
+    /**
+     * Creates a new builder instance.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+}
@@ -0,0 +1,111 @@
+package api.requests;
+
+import api.client.JsonSupport;
+import api.model.request.Player;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Compiled request templates of the Player endpoints.
+ * Each endpoint fixes its HTTP method and path template and binds the call arguments straight onto the request,
+ * so a call neither builds parameter maps nor resolves an object mapper: bodies are written with the cached
+ * {@link JsonSupport#writer()}. The path template is what the metrics record, e.g. {@code /player/update/{editor}/{id}}.
+ */
+enum PlayerEndpoint {
+
+    CREATE(Method.POST, "/player/create") {
+        @Override
+        RequestSpecification bind(final RequestSpecification request, final String editor, final Integer playerId,
+                                  final Player player) {
+            return request.header(EDITOR_HEADER, editor)
+                    .queryParam("age", player.getAge())
+                    .queryParam("gender", player.getGender())
+                    .queryParam("login", player.getLogin())
+                    .queryParam("password", player.getPassword())
+                    .queryParam("role", player.getRole())
+                    .queryParam("screenName", player.getScreenName());
+        }
+    },
+
+    GET(Method.POST, "/player/get") {
+        @Override
+        RequestSpecification bind(final RequestSpecification request, final String editor, final Integer playerId,
+                                  final Player player) {
+            return request.body("{\"playerId\":" + playerId + "}");
+        }
+    },
+
+    GET_ALL(Method.GET, "/player/getAll") {
+        @Override
+        RequestSpecification bind(final RequestSpecification request, final String editor, final Integer playerId,
+                                  final Player player) {
+            return request;
+        }
+    },
+
+    UPDATE(Method.PATCH, "/player/update/{editor}/{id}") {
+        @Override
+        RequestSpecification bind(final RequestSpecification request, final String editor, final Integer playerId,
+                                  final Player player) {
+            return request.pathParam("editor", editor)
+                    .pathParam("id", playerId)
+                    .body(toJson(player));
+        }
+    },
+
+    DELETE(Method.DELETE, "/player/delete/{editor}/{id}") {
+        @Override
+        RequestSpecification bind(final RequestSpecification request, final String editor, final Integer playerId,
+                                  final Player player) {
+            return request.pathParam("editor", editor)
+                    .pathParam("id", playerId);
+        }
+    };
+
+    private static final String EDITOR_HEADER = "editor";
+
+    private final Method method;
+    private final String pathTemplate;
+
+    PlayerEndpoint(final Method method, final String pathTemplate) {
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+    }
+
+    /**
+     * Binds the call arguments the endpoint uses to the request; the others are ignored and may be null.
+     *
+     * @param request the request to bind to
+     * @param editor the editor login
+     * @param playerId the player ID
+     * @param player the player
+     * @return the request
+     */
+    abstract RequestSpecification bind(RequestSpecification request, String editor, Integer playerId, Player player);
+
+    /**
+     * Sends a request to the endpoint.
+     *
+     * @param specification the client's request specification
+     * @param editor the editor login, if the endpoint uses one
+     * @param playerId the player ID, if the endpoint uses one
+     * @param player the player, if the endpoint uses one
+     * @return the response
+     */
+    Response send(final RequestSpecification specification, final String editor, final Integer playerId,
+                  final Player player) {
+        return bind(given().spec(specification), editor, playerId, player).request(method, pathTemplate);
+    }
+
+    private static String toJson(final Player player) {
+        try {
+            return JsonSupport.writer().writeValueAsString(player);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize player: " + player, e);
+        }
+    }
+}
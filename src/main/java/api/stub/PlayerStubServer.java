@@ -0,0 +1,506 @@
+package api.stub;
+
+import api.client.JsonSupport;
+import api.model.request.Player;
+import api.model.response.PlayerResponse;
+import api.model.response.PlayerShortResponse;
+import api.model.response.PlayersResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import common.PropertiesReader;
+import common.PropertySnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Embedded, in-memory implementation of the Player service endpoints.
+ * Listens on a random loopback port, so it can be used as a hermetic target for the API clients
+ * and for load generation. Setting {@code base.url} to {@value #BASE_URL_SWITCH} points the default
+ * client configuration at a shared instance, see {@link #resolveBaseUrl(String)}.
+ * <p>
+ * The stub enforces the rules the test data is generated against: age and password bounds from the
+ * {@code test.*} properties, {@code male}/{@code female} genders, {@code admin}/{@code user} roles, unique
+ * logins and the editor permissions. It starts with a supervisor, an admin and a user account, whose
+ * logins are the configured default logins and {@code user}.
+ */
+public final class PlayerStubServer implements AutoCloseable {
+
+    private static final Logger LOGGER = LogManager.getLogger(PlayerStubServer.class);
+    private static final String CONTENT_TYPE = "application/json";
+    private static final String SUPERVISOR_ROLE = "supervisor";
+    private static final String ADMIN_ROLE = "admin";
+    private static final String USER_ROLE = "user";
+    private static final Set<String> GENDERS = Set.of("male", "female");
+    private static final Set<String> ROLES = Set.of(ADMIN_ROLE, USER_ROLE);
+
+    /**
+     * Value of {@code base.url} that selects the shared stub server instead of a remote service.
+     */
+    public static final String BASE_URL_SWITCH = "stub";
+
+    private static volatile boolean sharedStarted;
+
+    static {
+        // The JDK server writes headers and body separately; without TCP_NODELAY every response
+        // stalls on Nagle's algorithm and the client's delayed ACK (~40 ms). The flag is read once,
+        // when the first server in the JVM is created.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ConcurrentMap<Integer, PlayerResponse> players = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Integer> loginIndex = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, InjectedFailure> injectedFailures = new ConcurrentHashMap<>();
+    private final AtomicInteger idSequence = new AtomicInteger();
+    private final int minAge;
+    private final int maxAge;
+    private final int minPasswordLength;
+    private final int maxPasswordLength;
+    private final int seededPlayerCount;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private PlayerStubServer(final HttpServer server, final ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+        PropertySnapshot properties = PropertiesReader.snapshot();
+        this.minAge = properties.getTestUserMinAge();
+        this.maxAge = properties.getTestUserMaxAge();
+        this.minPasswordLength = properties.getTestPasswordMinLength();
+        this.maxPasswordLength = properties.getTestPasswordMaxLength();
+        seed(properties.getDefaultSupervisorLogin(), SUPERVISOR_ROLE);
+        seed(properties.getDefaultAdminLogin(), ADMIN_ROLE);
+        seed("user", USER_ROLE);
+        this.seededPlayerCount = players.size();
+    }
+
+    /**
+     * Starts a stub server on a random loopback port.
+     *
+     * @return the started server
+     */
+    public static PlayerStubServer start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "player-stub-" + server.getAddress().getPort());
+                thread.setDaemon(true);
+                return thread;
+            });
+            PlayerStubServer stub = new PlayerStubServer(server, executor);
+            server.createContext("/player/", stub::handle);
+            server.setExecutor(executor);
+            server.start();
+            LOGGER.info("Player stub server started at {}", stub.getBaseUrl());
+            return stub;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start player stub server", e);
+        }
+    }
+
+    /**
+     * Gets the stub server shared by the whole JVM, starting it on first use.
+     * It is stopped by a shutdown hook or by {@link #closeShared()}.
+     *
+     * @return the shared server
+     */
+    public static PlayerStubServer shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Stops the shared stub server if it was started. The server's dispatcher thread is not a daemon, so a
+     * {@code main} that used the shared server must call this before returning, or the JVM never exits
+     * and the shutdown hook never runs.
+     */
+    public static void closeShared() {
+        if (sharedStarted) {
+            SharedHolder.INSTANCE.close();
+        }
+    }
+
+    /**
+     * Resolves a configured base URL, replacing {@value #BASE_URL_SWITCH} with the URL of the shared stub server.
+     *
+     * @param baseUrl the configured base URL
+     * @return the base URL to send requests to
+     */
+    public static String resolveBaseUrl(final String baseUrl) {
+        return BASE_URL_SWITCH.equalsIgnoreCase(baseUrl) ? shared().getBaseUrl() : baseUrl;
+    }
+
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Gets the number of players currently stored that were created through the API,
+     * i.e. without the accounts the stub starts with.
+     *
+     * @return the player count
+     */
+    public int getPlayerCount() {
+        return players.size() - seededPlayerCount;
+    }
+
+    /**
+     * Makes the stub answer the next requests of an operation with an error instead of handling them,
+     * e.g. to exercise the retries of a client.
+     *
+     * @param operation the path segment after {@code /player/}, e.g. {@code delete}
+     * @param count the number of requests to fail
+     * @param statusCode the status code to answer them with
+     */
+    public void failNext(final String operation, final int count, final int statusCode) {
+        injectedFailures.put(operation, new InjectedFailure(count, statusCode));
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        LOGGER.info("Player stub server at {} stopped", getBaseUrl());
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            dispatch(exchange);
+        } catch (StubError e) {
+            sendError(exchange, e.statusCode, e.getMessage());
+        } catch (JsonProcessingException e) {
+            sendError(exchange, 400, "Malformed request body");
+        } catch (RuntimeException e) {
+            LOGGER.error("Player stub server failed to handle {}", exchange.getRequestURI(), e);
+            sendError(exchange, 500, "Internal Server Error");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void dispatch(final HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String[] path = exchange.getRequestURI().getPath().split("/");
+        String operation = path.length > 2 ? path[2] : "";
+        InjectedFailure failure = injectedFailures.get(operation);
+        if (failure != null && failure.take()) {
+            sendError(exchange, failure.statusCode, "Injected failure");
+            return;
+        }
+
+        if ("POST".equals(method) && "create".equals(operation)) {
+            create(exchange);
+        } else if ("POST".equals(method) && "get".equals(operation)) {
+            get(exchange);
+        } else if ("GET".equals(method) && "getAll".equals(operation)) {
+            getAll(exchange);
+        } else if ("PATCH".equals(method) && "update".equals(operation) && path.length == 5) {
+            update(exchange, parseId(path[4]));
+        } else if ("DELETE".equals(method) && "delete".equals(operation) && path.length == 5) {
+            delete(exchange, parseId(path[4]));
+        } else {
+            sendError(exchange, 404, "Not Found");
+        }
+    }
+
+    private void create(final HttpExchange exchange) throws IOException {
+        PlayerResponse editor = requireEditor(exchange);
+        Map<String, String> params = queryParams(exchange);
+        Player player = new Player(parseAge(params.get("age")), params.get("gender"), params.get("login"),
+                params.get("password"), params.get("role"), params.get("screenName"));
+        validate(player, true);
+        if (!canEdit(editor, null, player.getRole())) {
+            throw new StubError(403, "Forbidden");
+        }
+        int id = idSequence.incrementAndGet();
+        if (loginIndex.putIfAbsent(player.getLogin(), id) != null) {
+            throw new StubError(409, "Login already exists");
+        }
+        PlayerResponse created = new PlayerResponse(id, player.getAge(), player.getGender(), player.getLogin(),
+                player.getPassword(), player.getRole(), player.getScreenName());
+        players.put(id, created);
+        send(exchange, 200, created);
+    }
+
+    private void get(final HttpExchange exchange) throws IOException {
+        JsonNode body = JsonSupport.objectMapper().readTree(exchange.getRequestBody());
+        JsonNode playerId = body != null ? body.get("playerId") : null;
+        if (playerId == null || !playerId.canConvertToInt()) {
+            sendError(exchange, 400, "playerId is required");
+            return;
+        }
+        PlayerResponse player = players.get(playerId.asInt());
+        if (player == null) {
+            sendError(exchange, 404, "No such user");
+            return;
+        }
+        send(exchange, 200, player);
+    }
+
+    private void getAll(final HttpExchange exchange) throws IOException {
+        List<PlayerShortResponse> shortPlayers = players.values().stream()
+                .map(player -> new PlayerShortResponse(player.getPlayerId(), player.getScreenName(),
+                        player.getGender(), player.getAge()))
+                .collect(Collectors.toList());
+        send(exchange, 200, new PlayersResponse(shortPlayers));
+    }
+
+    private void update(final HttpExchange exchange, final Integer id) throws IOException {
+        PlayerResponse editor = requireEditor(exchange);
+        Player update = JsonSupport.readerFor(Player.class).readValue(exchange.getRequestBody());
+        PlayerResponse updated = id == null ? null : players.computeIfPresent(id, (key, player) -> {
+            if (!canEdit(editor, player, player.getRole())) {
+                throw new StubError(403, "Forbidden");
+            }
+            validate(update, false);
+            if (update.getRole() != null && SUPERVISOR_ROLE.equals(player.getRole())) {
+                throw new StubError(403, "Forbidden");
+            }
+            if (update.getLogin() != null && !update.getLogin().equals(player.getLogin())) {
+                if (loginIndex.putIfAbsent(update.getLogin(), key) != null) {
+                    throw new StubError(409, "Login already exists");
+                }
+                loginIndex.remove(player.getLogin(), key);
+            }
+            return new PlayerResponse(
+                    key,
+                    update.getAge() != null ? update.getAge() : player.getAge(),
+                    update.getGender() != null ? update.getGender() : player.getGender(),
+                    update.getLogin() != null ? update.getLogin() : player.getLogin(),
+                    update.getPassword() != null ? update.getPassword() : player.getPassword(),
+                    update.getRole() != null ? update.getRole() : player.getRole(),
+                    update.getScreenName() != null ? update.getScreenName() : player.getScreenName());
+        });
+        if (updated == null) {
+            sendError(exchange, 404, "No such user");
+            return;
+        }
+        send(exchange, 200, updated);
+    }
+
+    private void delete(final HttpExchange exchange, final Integer id) throws IOException {
+        PlayerResponse editor = requireEditor(exchange);
+        PlayerResponse player = id == null ? null : players.get(id);
+        if (player == null) {
+            sendError(exchange, 404, "No such user");
+            return;
+        }
+        if (SUPERVISOR_ROLE.equals(player.getRole()) || !canEdit(editor, player, player.getRole())) {
+            sendError(exchange, 403, "Forbidden");
+            return;
+        }
+        if (!players.remove(id, player)) {
+            sendError(exchange, 404, "No such user");
+            return;
+        }
+        loginIndex.remove(player.getLogin(), id);
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void seed(final String login, final String role) {
+        int id = idSequence.incrementAndGet();
+        players.put(id, new PlayerResponse(id, 30, "male", login, "password1", role, login));
+        loginIndex.put(login, id);
+    }
+
+    /**
+     * Looks up the editor named by the {@code editor} header of a create request or the path of an update
+     * or delete request.
+     */
+    private PlayerResponse requireEditor(final HttpExchange exchange) {
+        String[] path = exchange.getRequestURI().getPath().split("/");
+        String login = path.length == 5 ? path[3] : exchange.getRequestHeaders().getFirst("editor");
+        Integer id = login != null ? loginIndex.get(login) : null;
+        PlayerResponse editor = id != null ? players.get(id) : null;
+        if (editor == null) {
+            throw new StubError(404, "No such editor");
+        }
+        return editor;
+    }
+
+    /**
+     * Checks whether an editor may create or change a player: a supervisor may edit anyone, an admin may edit
+     * users and itself, and a user only itself.
+     *
+     * @param editor the editor
+     * @param target the existing player, or null for a player being created
+     * @param role the role of the player
+     */
+    private static boolean canEdit(final PlayerResponse editor, final PlayerResponse target, final String role) {
+        if (target != null && target.getPlayerId().equals(editor.getPlayerId())) {
+            return true;
+        }
+        if (SUPERVISOR_ROLE.equals(editor.getRole())) {
+            return true;
+        }
+        return ADMIN_ROLE.equals(editor.getRole()) && USER_ROLE.equals(role);
+    }
+
+    /**
+     * Validates the fields of a player, throwing a 400 error on the first invalid one.
+     *
+     * @param player the player
+     * @param requireAll whether every field must be present, as on create
+     */
+    private void validate(final Player player, final boolean requireAll) {
+        if (requireAll && (player.getAge() == null || isBlank(player.getGender()) || isBlank(player.getLogin())
+                || isBlank(player.getPassword()) || isBlank(player.getRole()) || isBlank(player.getScreenName()))) {
+            throw new StubError(400, "Required fields are missing");
+        }
+        if (player.getAge() != null && (player.getAge() < minAge || player.getAge() > maxAge)) {
+            throw new StubError(400, "Age must be between " + minAge + " and " + maxAge);
+        }
+        if (player.getGender() != null && !GENDERS.contains(player.getGender())) {
+            throw new StubError(400, "Gender must be male or female");
+        }
+        if (player.getRole() != null && !ROLES.contains(player.getRole())) {
+            throw new StubError(400, "Role must be admin or user");
+        }
+        if (player.getPassword() != null && !isValidPassword(player.getPassword())) {
+            throw new StubError(400, "Password must have " + minPasswordLength + " to " + maxPasswordLength
+                    + " latin letters and digits, with at least one of each");
+        }
+        if ((player.getLogin() != null && player.getLogin().isBlank())
+                || (player.getScreenName() != null && player.getScreenName().isBlank())) {
+            throw new StubError(400, "Login and screen name must not be blank");
+        }
+    }
+
+    private boolean isValidPassword(final String password) {
+        if (password.length() < minPasswordLength || password.length() > maxPasswordLength) {
+            return false;
+        }
+        boolean hasLetter = false;
+        boolean hasDigit = false;
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                hasLetter = true;
+            } else if (c >= '0' && c <= '9') {
+                hasDigit = true;
+            } else {
+                return false;
+            }
+        }
+        return hasLetter && hasDigit;
+    }
+
+    private static boolean isBlank(final String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static Integer parseAge(final String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new StubError(400, "Age must be a number");
+        }
+    }
+
+    private static Integer parseId(final String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, String> queryParams(final HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return params;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static void sendError(final HttpExchange exchange, final int statusCode, final String title)
+            throws IOException {
+        send(exchange, statusCode, Map.of("title", title));
+    }
+
+    private static void send(final HttpExchange exchange, final int statusCode, final Object body) throws IOException {
+        byte[] bytes = JsonSupport.writer().writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    /**
+     * Error response raised while handling a request.
+     */
+    private static final class StubError extends RuntimeException {
+        private final int statusCode;
+
+        private StubError(final int statusCode, final String title) {
+            super(title, null, false, false);
+            this.statusCode = statusCode;
+        }
+    }
+
+    /**
+     * Remaining requests of an operation to fail, see {@link #failNext(String, int, int)}.
+     */
+    private static final class InjectedFailure {
+        private final AtomicInteger remaining;
+        private final int statusCode;
+
+        private InjectedFailure(final int count, final int statusCode) {
+            this.remaining = new AtomicInteger(count);
+            this.statusCode = statusCode;
+        }
+
+        private boolean take() {
+            return remaining.getAndUpdate(count -> Math.max(0, count - 1)) > 0;
+        }
+    }
+
+    /**
+     * Lazily started instance shared by the JVM.
+     */
+    private static final class SharedHolder {
+        private static final PlayerStubServer INSTANCE = start();
+
+        static {
+            sharedStarted = true;
+            Runtime.getRuntime().addShutdownHook(new Thread(INSTANCE::close, "player-stub-shutdown"));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package common;
+
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.arbiters.Arbiter;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+
+/**
+ * Log4j arbiter that keeps its elements of {@code log4j2.xml} if a configuration property has the given value,
+ * compared case-insensitively. Like the built-in {@code SystemPropertyArbiter}, but also reads
+ * {@code config.properties} through {@link ConfigPropertyLookup}.
+ */
+@Plugin(name = "ConfigPropertyArbiter", category = Node.CATEGORY, elementType = Arbiter.ELEMENT_TYPE,
+        deferChildren = true, printObject = true)
+public final class ConfigPropertyArbiter implements Arbiter {
+
+    private final String propertyName;
+    private final String propertyValue;
+
+    private ConfigPropertyArbiter(final String propertyName, final String propertyValue) {
+        this.propertyName = propertyName;
+        this.propertyValue = propertyValue;
+    }
+
+    /**
+     * Creates the arbiter.
+     *
+     * @param propertyName the configuration property name
+     * @param propertyValue the value the property must have
+     * @return the arbiter
+     */
+    @PluginFactory
+    public static ConfigPropertyArbiter createArbiter(@PluginAttribute("propertyName") final String propertyName,
+                                                      @PluginAttribute("propertyValue") final String propertyValue) {
+        return new ConfigPropertyArbiter(propertyName, propertyValue);
+    }
+
+    @Override
+    public boolean isCondition() {
+        String value = propertyName != null ? ConfigPropertyLookup.resolve(propertyName) : null;
+        return value != null && value.trim().equalsIgnoreCase(propertyValue);
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigPropertyArbiter{" +
+                "propertyName='" + propertyName + '\'' +
+                ", propertyValue='" + propertyValue + '\'' +
+                '}';
+    }
+}
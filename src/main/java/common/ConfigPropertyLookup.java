@@ -0,0 +1,52 @@
+package common;
+
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.lookup.AbstractLookup;
+import org.apache.logging.log4j.core.lookup.StrLookup;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Log4j lookup exposing the configuration properties to {@code log4j2.xml} as {@code ${config:name}}.
+ * System properties take precedence over file properties, as in {@link PropertiesReader}.
+ * <p>
+ * The file is read with {@link java.util.Properties} rather than through {@link PropertiesReader}, which logs
+ * and therefore cannot be used while the logging configuration is being built.
+ */
+@Plugin(name = "config", category = StrLookup.CATEGORY)
+public final class ConfigPropertyLookup extends AbstractLookup {
+
+    private static final String CONFIG_PROPERTIES = "config.properties";
+    private static final java.util.Properties FILE_PROPERTIES = readFileProperties();
+
+    @Override
+    public String lookup(final LogEvent event, final String key) {
+        return resolve(key);
+    }
+
+    /**
+     * Gets a configuration property without logging.
+     *
+     * @param name the property name
+     * @return the property value, or null if not found
+     */
+    static String resolve(final String name) {
+        String value = System.getProperty(name);
+        return value != null ? value : FILE_PROPERTIES.getProperty(name);
+    }
+
+    private static java.util.Properties readFileProperties() {
+        java.util.Properties properties = new java.util.Properties();
+        try (InputStream input = ConfigPropertyLookup.class.getClassLoader().getResourceAsStream(CONFIG_PROPERTIES)) {
+            if (input != null) {
+                properties.load(input);
+            }
+        } catch (IOException e) {
+            StatusLogger.getLogger().warn("Could not read {} for the logging configuration", CONFIG_PROPERTIES, e);
+        }
+        return properties;
+    }
+}
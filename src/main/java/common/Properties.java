@@ -10,10 +10,44 @@ public final class Properties {
     public static final String BASE_URL = "base.url";
     public static final String SWAGGER_URL = "swagger.url";
     
+    // HTTP Client Configuration
+    public static final String HTTP_LOG_POLICY = "http.log.policy";
+    public static final String HTTP_LOG_MAX_BODY_LENGTH = "http.log.max.body.length";
+    public static final String HTTP_METRICS_ENABLED = "http.metrics.enabled";
+    public static final String HTTP_METRICS_REPORT_FILE = "http.metrics.report.file";
+    public static final String HTTP_CACHE_MAX_SIZE = "http.cache.max.size";
+    public static final String HTTP_CACHE_TTL_MILLIS = "http.cache.ttl.millis";
+    public static final String HTTP_RETRY_BACKOFF_MILLIS = "http.retry.backoff.millis";
+    public static final String HTTP_HEDGING_ENABLED = "http.hedging.enabled";
+    public static final String HTTP_MAX_REQUESTS_PER_SECOND = "http.max.requests.per.second";
+    public static final String HTTP_MAX_IN_FLIGHT = "http.max.in.flight";
+    public static final String HTTP_ENDPOINT_MAX_REQUESTS_PER_SECOND = "http.endpoint.max.requests.per.second";
+    public static final String HTTP_ENDPOINT_MAX_IN_FLIGHT = "http.endpoint.max.in.flight";
+    public static final String HTTP_EXCHANGE_MODE = "http.exchange.mode";
+    public static final String HTTP_EXCHANGE_LOG_FILE = "http.exchange.log.file";
+    
     // Test Configuration
     public static final String TEST_THREAD_COUNT = "test.thread.count";
     public static final String TEST_TIMEOUT = "test.timeout";
     public static final String TEST_RETRY_COUNT = "test.retry.count";
+    public static final String BULK_MAX_CONCURRENCY = "bulk.max.concurrency";
+    public static final String CLEANUP_MODE = "cleanup.mode";
+    public static final String SHARD_INDEX = "shard.index";
+    public static final String SHARD_COUNT = "shard.count";
+    public static final String SHARD_DURATIONS_FILE = "shard.durations.file";
+    
+    // Load Generation Configuration
+    public static final String LOAD_MIX = "load.mix";
+    public static final String LOAD_CONCURRENCY = "load.concurrency";
+    public static final String LOAD_TARGET_RPS = "load.target.rps";
+    public static final String LOAD_DURATION_SECONDS = "load.duration.seconds";
+    public static final String LOAD_RAMP_UP_SECONDS = "load.ramp.up.seconds";
+    public static final String LOAD_WARM_UP_SECONDS = "load.warm.up.seconds";
+    public static final String LOAD_REPORT_FILE = "load.report.file";
+    public static final String SOAK_DURATION_MINUTES = "soak.duration.minutes";
+    public static final String SOAK_TARGET_RPS = "soak.target.rps";
+    public static final String SOAK_SAMPLE_INTERVAL_SECONDS = "soak.sample.interval.seconds";
+    public static final String SOAK_REPORT_FILE = "soak.report.file";
     
     // Default Users
     public static final String DEFAULT_SUPERVISOR_LOGIN = "default.supervisor.login";
@@ -24,14 +58,23 @@ public final class Properties {
     public static final String TEST_USER_MAX_AGE = "test.user.max.age";
     public static final String TEST_PASSWORD_MIN_LENGTH = "test.password.min.length";
     public static final String TEST_PASSWORD_MAX_LENGTH = "test.password.max.length";
+    public static final String TEST_IDENTITY_NAMESPACE = "test.identity.namespace";
+    public static final String TEST_IDENTITY_MAX_LENGTH = "test.identity.max.length";
+    public static final String TEST_DATA_SEED = "test.data.seed";
     
     // Logging Configuration
     public static final String LOGGING_LEVEL = "logging.level";
     public static final String LOGGING_PATTERN = "logging.pattern";
+    public static final String LOGGING_ASYNC = "logging.async";
+    public static final String LOGGING_ASYNC_BUFFER_SIZE = "logging.async.buffer.size";
+    public static final String LOGGING_ASYNC_BLOCKING = "logging.async.blocking";
     
     // Allure Configuration
     public static final String ALLURE_RESULTS_DIRECTORY = "allure.results.directory";
     public static final String ALLURE_REPORT_DIRECTORY = "allure.report.directory";
+    public static final String ALLURE_ATTACHMENT_MODE = "allure.attachment.mode";
+    public static final String ALLURE_ATTACHMENT_SAMPLE_RATE = "allure.attachment.sample.rate";
+    public static final String ALLURE_ATTACHMENT_MAX_BODY_LENGTH = "allure.attachment.max.body.length";
     
     private Properties() {
         // Private constructor to prevent instantiation
@@ -7,10 +7,15 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.File;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Configuration reader using Apache Commons Configuration.
- * Thread-safe singleton pattern for reading application properties.
+ * The properties file is read once into an immutable {@link PropertySnapshot}, so lookups are constant-time
+ * map reads without logging; {@link #setConfigProperty(String, String)} swaps in a new snapshot.
  */
 public final class PropertiesReader {
 
@@ -18,7 +23,7 @@ public final class PropertiesReader {
     private static final String CONFIG_PROPERTIES = "config.properties";
     private static final String EXCEPTION_TEXT = "Error occurred during reading properties file: ";
     
-    private static volatile Configuration configuration;
+    private static final AtomicReference<PropertySnapshot> currentSnapshot = new AtomicReference<>();
     private static final Object lock = new Object();
 
     private PropertiesReader() {
@@ -37,23 +42,7 @@ public final class PropertiesReader {
             LOGGER.warn("Property name is null or empty");
             return null;
         }
-
-        // Check system property first (takes precedence)
-        String systemProperty = System.getProperty(propertyName);
-        if (systemProperty != null) {
-            LOGGER.debug("Retrieved system property: {} = {}", propertyName, systemProperty);
-            return systemProperty;
-        }
-
-        // Get from configuration file
-        String configValue = getConfiguration().getString(propertyName);
-        if (configValue != null) {
-            LOGGER.debug("Retrieved config property: {} = {}", propertyName, configValue);
-            return configValue;
-        }
-
-        LOGGER.warn("Property not found: {}", propertyName);
-        return null;
+        return snapshot().get(propertyName);
     }
 
     /**
@@ -76,15 +65,7 @@ public final class PropertiesReader {
      * @return the integer property value or default value
      */
     public static int getIntProperty(final String propertyName, final int defaultValue) {
-        String value = getProperty(propertyName);
-        if (value != null) {
-            try {
-                return Integer.parseInt(value);
-            } catch (NumberFormatException e) {
-                LOGGER.warn("Property {} is not a valid integer: {}", propertyName, value);
-            }
-        }
-        return defaultValue;
+        return snapshot().getInt(propertyName, defaultValue);
     }
 
     /**
@@ -99,25 +80,45 @@ public final class PropertiesReader {
             return;
         }
         
-        getConfiguration().setProperty(name, value);
+        snapshot();
+        currentSnapshot.updateAndGet(current -> current.with(name, value));
         LOGGER.debug("Set configuration property: {} = {}", name, value);
     }
 
     /**
-     * Gets the configuration instance, initializing it if necessary.
-     * Thread-safe singleton pattern.
+     * Gets the current property snapshot, resolving it from the properties file on first use.
+     * The returned snapshot never changes; callers reading several properties should keep it for the whole read.
      *
-     * @return the Configuration instance
+     * @return the property snapshot
      */
-    private static Configuration getConfiguration() {
-        if (configuration == null) {
+    public static PropertySnapshot snapshot() {
+        PropertySnapshot current = currentSnapshot.get();
+        if (current == null) {
             synchronized (lock) {
-                if (configuration == null) {
-                    configuration = initializeConfiguration();
+                current = currentSnapshot.get();
+                if (current == null) {
+                    current = PropertySnapshot.of(readProperties(initializeConfiguration()));
+                    currentSnapshot.set(current);
+                    LOGGER.info("Resolved {} configuration properties", current.size());
                 }
             }
         }
-        return configuration;
+        return current;
+    }
+
+    /**
+     * Reads all properties of the configuration into a map.
+     *
+     * @param configuration the configuration
+     * @return the properties by name
+     */
+    private static Map<String, String> readProperties(final Configuration configuration) {
+        Map<String, String> properties = new HashMap<>();
+        for (Iterator<String> keys = configuration.getKeys(); keys.hasNext(); ) {
+            String key = keys.next();
+            properties.put(key, configuration.getString(key));
+        }
+        return properties;
     }
 
     /**
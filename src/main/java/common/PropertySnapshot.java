@@ -0,0 +1,243 @@
+package common;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static common.Properties.ALLURE_ATTACHMENT_MAX_BODY_LENGTH;
+import static common.Properties.ALLURE_ATTACHMENT_SAMPLE_RATE;
+import static common.Properties.BASE_URL;
+import static common.Properties.BULK_MAX_CONCURRENCY;
+import static common.Properties.DEFAULT_ADMIN_LOGIN;
+import static common.Properties.DEFAULT_SUPERVISOR_LOGIN;
+import static common.Properties.HTTP_LOG_MAX_BODY_LENGTH;
+import static common.Properties.TEST_PASSWORD_MAX_LENGTH;
+import static common.Properties.TEST_PASSWORD_MIN_LENGTH;
+import static common.Properties.TEST_RETRY_COUNT;
+import static common.Properties.TEST_THREAD_COUNT;
+import static common.Properties.TEST_TIMEOUT;
+import static common.Properties.TEST_USER_MAX_AGE;
+import static common.Properties.TEST_USER_MIN_AGE;
+
+/**
+ * Immutable view of the configuration properties, resolved once.
+ * System properties take precedence over file properties; integer values are parsed when the snapshot is built,
+ * so lookups neither log nor allocate. Changes are made by building a new snapshot with {@link #with(String, String)}.
+ */
+public final class PropertySnapshot {
+
+    private static final Logger LOGGER = LogManager.getLogger(PropertySnapshot.class);
+
+    private final Map<String, String> fileValues;
+    private final Map<String, String> values;
+    private final Map<String, Integer> intValues;
+
+    private final String baseUrl;
+    private final String defaultSupervisorLogin;
+    private final String defaultAdminLogin;
+    private final int testUserMinAge;
+    private final int testUserMaxAge;
+    private final int testPasswordMinLength;
+    private final int testPasswordMaxLength;
+    private final int testThreadCount;
+    private final int testTimeout;
+    private final int testRetryCount;
+    private final int bulkMaxConcurrency;
+    private final int httpLogMaxBodyLength;
+    private final int allureAttachmentSampleRate;
+    private final int allureAttachmentMaxBodyLength;
+
+    private PropertySnapshot(final Map<String, String> fileValues) {
+        this.fileValues = Collections.unmodifiableMap(fileValues);
+        Map<String, String> resolved = new HashMap<>(fileValues);
+        Map<String, Integer> parsed = new HashMap<>();
+        for (Map.Entry<String, String> entry : fileValues.entrySet()) {
+            String systemProperty = System.getProperty(entry.getKey());
+            String value = systemProperty != null ? systemProperty : entry.getValue();
+            resolved.put(entry.getKey(), value);
+            Integer number = parseInt(value);
+            if (number != null) {
+                parsed.put(entry.getKey(), number);
+            }
+        }
+        this.values = Collections.unmodifiableMap(resolved);
+        this.intValues = Collections.unmodifiableMap(parsed);
+
+        this.baseUrl = get(BASE_URL);
+        this.defaultSupervisorLogin = getOrDefault(DEFAULT_SUPERVISOR_LOGIN, "supervisor");
+        this.defaultAdminLogin = getOrDefault(DEFAULT_ADMIN_LOGIN, "admin");
+        this.testUserMinAge = typedInt(TEST_USER_MIN_AGE, 16);
+        this.testUserMaxAge = typedInt(TEST_USER_MAX_AGE, 60);
+        this.testPasswordMinLength = typedInt(TEST_PASSWORD_MIN_LENGTH, 7);
+        this.testPasswordMaxLength = typedInt(TEST_PASSWORD_MAX_LENGTH, 15);
+        this.testThreadCount = typedInt(TEST_THREAD_COUNT, 3);
+        this.testTimeout = typedInt(TEST_TIMEOUT, 30);
+        this.testRetryCount = typedInt(TEST_RETRY_COUNT, 2);
+        this.bulkMaxConcurrency = typedInt(BULK_MAX_CONCURRENCY, 32);
+        this.httpLogMaxBodyLength = typedInt(HTTP_LOG_MAX_BODY_LENGTH, -1);
+        this.allureAttachmentSampleRate = typedInt(ALLURE_ATTACHMENT_SAMPLE_RATE, 1);
+        this.allureAttachmentMaxBodyLength = typedInt(ALLURE_ATTACHMENT_MAX_BODY_LENGTH, -1);
+    }
+
+    /**
+     * Resolves a snapshot of the given file properties against the current system properties.
+     *
+     * @param fileValues the properties read from the configuration file
+     * @return the snapshot
+     */
+    static PropertySnapshot of(final Map<String, String> fileValues) {
+        return new PropertySnapshot(new HashMap<>(fileValues));
+    }
+
+    /**
+     * Creates a copy of this snapshot with a file property set. A system property of the same name still takes precedence.
+     *
+     * @param name the property name
+     * @param value the property value, or null to remove it
+     * @return the new snapshot
+     */
+    PropertySnapshot with(final String name, final String value) {
+        Map<String, String> changed = new HashMap<>(fileValues);
+        if (value != null) {
+            changed.put(name, value);
+        } else {
+            changed.remove(name);
+        }
+        return new PropertySnapshot(changed);
+    }
+
+    /**
+     * Gets a property value. Properties missing from the configuration file fall back to the system properties.
+     *
+     * @param name the property name
+     * @return the property value, or null if not found
+     */
+    public String get(final String name) {
+        String value = values.get(name);
+        return value != null ? value : System.getProperty(name);
+    }
+
+    /**
+     * Gets a property value with a default fallback.
+     *
+     * @param name the property name
+     * @param defaultValue the default value if the property is not found
+     * @return the property value or default value
+     */
+    public String getOrDefault(final String name, final String defaultValue) {
+        String value = get(name);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Gets an integer property value, parsed when the snapshot was built.
+     *
+     * @param name the property name
+     * @param defaultValue the default value if the property is not found or not a number
+     * @return the integer property value or default value
+     */
+    public int getInt(final String name, final int defaultValue) {
+        Integer value = intValues.get(name);
+        if (value != null) {
+            return value;
+        }
+        if (values.containsKey(name)) {
+            return defaultValue;
+        }
+        Integer systemValue = parseInt(System.getProperty(name));
+        return systemValue != null ? systemValue : defaultValue;
+    }
+
+    /**
+     * Gets the number of resolved properties.
+     *
+     * @return the property count
+     */
+    public int size() {
+        return values.size();
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public String getDefaultSupervisorLogin() {
+        return defaultSupervisorLogin;
+    }
+
+    public String getDefaultAdminLogin() {
+        return defaultAdminLogin;
+    }
+
+    public int getTestUserMinAge() {
+        return testUserMinAge;
+    }
+
+    public int getTestUserMaxAge() {
+        return testUserMaxAge;
+    }
+
+    public int getTestPasswordMinLength() {
+        return testPasswordMinLength;
+    }
+
+    public int getTestPasswordMaxLength() {
+        return testPasswordMaxLength;
+    }
+
+    public int getTestThreadCount() {
+        return testThreadCount;
+    }
+
+    public int getTestTimeout() {
+        return testTimeout;
+    }
+
+    public int getTestRetryCount() {
+        return testRetryCount;
+    }
+
+    public int getBulkMaxConcurrency() {
+        return bulkMaxConcurrency;
+    }
+
+    public int getHttpLogMaxBodyLength() {
+        return httpLogMaxBodyLength;
+    }
+
+    public int getAllureAttachmentSampleRate() {
+        return allureAttachmentSampleRate;
+    }
+
+    public int getAllureAttachmentMaxBodyLength() {
+        return allureAttachmentMaxBodyLength;
+    }
+
+    /**
+     * Gets a typed integer property while building the snapshot, warning once if it is set but not a number.
+     */
+    private int typedInt(final String name, final int defaultValue) {
+        if (values.containsKey(name) && !intValues.containsKey(name)) {
+            LOGGER.warn("Property {} is not a valid integer: {}", name, values.get(name));
+        }
+        return getInt(name, defaultValue);
+    }
+
+    private static Integer parseInt(final String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        char first = value.charAt(0);
+        if (first != '-' && (first < '0' || first > '9')) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
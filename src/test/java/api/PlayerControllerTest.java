@@ -5,7 +5,7 @@ import api.error.ErrorBody;
 import api.error.NoSuchUserBody;
 import api.model.request.Player;
 import api.model.response.PlayerResponse;
-import api.model.response.PlayersResponse;
+import api.model.response.PlayerShortResponse;
 import api.requests.PlayerApiClient;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
@@ -17,18 +17,17 @@ import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.testng.annotations.AfterMethod;
-import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.Test;
 import org.testng.asserts.SoftAssert;
+import util.PlayerCleanupRegistry;
 import util.TestDataGenerator;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
 
 import static common.Properties.DEFAULT_ADMIN_LOGIN;
 import static common.Properties.DEFAULT_SUPERVISOR_LOGIN;
 import static common.PropertiesReader.getProperty;
-import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
@@ -46,29 +45,22 @@ public final class PlayerControllerTest {
         RestAssured.defaultParser = Parser.JSON;
     }
 
-    private PlayerApiClient apiClient;
-    private List<Integer> createdPlayerIds;
+    private static final PlayerCleanupRegistry CLEANUP_REGISTRY = PlayerCleanupRegistry.getInstance();
 
-    @BeforeMethod
-    @Step("Set up test environment")
-    public void setUp() {
-        LOGGER.info("Setting up PlayerControllerTest");
-        apiClient = new PlayerApiClient();
-        createdPlayerIds = new CopyOnWriteArrayList<>();
-    }
+    private final PlayerApiClient apiClient = PlayerApiClient.shared();
 
-    @AfterMethod
+    @AfterMethod(alwaysRun = true)
     @Step("Clean up test data")
     public void tearDown() {
         LOGGER.info("Cleaning up created players");
-        for (Integer playerId : createdPlayerIds) {
-            try {
-                apiClient.deletePlayer(getProperty(DEFAULT_SUPERVISOR_LOGIN), playerId);
-                LOGGER.info("Cleaned up player with ID: {}", playerId);
-            } catch (Exception e) {
-                LOGGER.warn("Failed to clean up player with ID: {}", playerId, e);
-            }
-        }
+        CLEANUP_REGISTRY.cleanUp();
+    }
+
+    @AfterSuite(alwaysRun = true)
+    @Step("Sweep remaining test data")
+    public void tearDownSuite() {
+        LOGGER.info("Sweeping players left after the suite");
+        CLEANUP_REGISTRY.sweep();
     }
 
     // Positive Tests
@@ -118,7 +110,7 @@ public final class PlayerControllerTest {
         ResponseWrapper actualPlayer = apiClient
                 .createPlayer(getProperty(DEFAULT_SUPERVISOR_LOGIN), player);
         actualPlayer.expectingStatusCode(200);
-        createdPlayerIds.add(actualPlayer.readEntity(PlayerResponse.class).getPlayerId());
+        CLEANUP_REGISTRY.register(actualPlayer.readEntity(PlayerResponse.class).getPlayerId());
     }
 
     @Test(description = "Create player with user role")
@@ -128,7 +120,7 @@ public final class PlayerControllerTest {
         ResponseWrapper actualPlayer = apiClient
                 .createPlayer(getProperty(DEFAULT_SUPERVISOR_LOGIN), player);
         actualPlayer.expectingStatusCode(200);
-        createdPlayerIds.add(actualPlayer.readEntity(PlayerResponse.class).getPlayerId());
+        CLEANUP_REGISTRY.register(actualPlayer.readEntity(PlayerResponse.class).getPlayerId());
     }
 
     // Negative Tests - Validation
@@ -275,11 +267,18 @@ public final class PlayerControllerTest {
     @Test(description = "Get all players")
     @Description("Verify that all players can be retrieved successfully")
     public void testGetAllPlayers() {
-        ResponseWrapper response = apiClient.getAllPlayers();
-        response.expectingStatusCode(200);
-        PlayersResponse playersResponse = response.readEntity(PlayersResponse.class);
-        assertNotNull(playersResponse, "Players response should not be null");
-        assertNotNull(playersResponse.getPlayers(), "Players list should not be null");
+        try (Stream<PlayerShortResponse> players = apiClient.streamAllPlayers()) {
+            players.forEach(player -> assertNotNull(player.getId(), "Player ID should not be null: " + player));
+        }
+    }
+
+    @Test(description = "Get all players matches the players schema")
+    @Description("Verify that the whole players list and each of its elements match the players schema")
+    public void testGetAllPlayersMatchesSchema() {
+        apiClient.getAllPlayers()
+                .expectingStatusCode(200)
+                .expectingSchema("players-schema")
+                .expectingArraySchema("players-schema", "players");
     }
 
     @Test(description = "Get player by non-existent ID")
@@ -475,7 +474,7 @@ public final class PlayerControllerTest {
         PlayerResponse createdPlayer = response.readEntity(PlayerResponse.class);
         assertNotNull(createdPlayer, "Created player should not be null");
         assertNotNull(createdPlayer.getPlayerId(), "Created player should have an ID");
-        createdPlayerIds.add(createdPlayer.getPlayerId());
+        CLEANUP_REGISTRY.register(createdPlayer.getPlayerId());
         return createdPlayer;
     }
 
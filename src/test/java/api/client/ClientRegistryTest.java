@@ -0,0 +1,88 @@
+package api.client;
+
+import api.requests.PlayerApiClient;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Test suite for the shared client registry.
+ */
+@Epic("Framework")
+@Feature("Client Registry")
+public final class ClientRegistryTest {
+
+    private static final int THREADS = 16;
+
+    @Test(description = "Shared client is built exactly once under concurrent access")
+    @Description("Verify that concurrent lookups of the same configuration build a single client and request specification")
+    public void testSharedClientIsBuiltOnce() throws Exception {
+        Configuration configuration = uniqueConfiguration();
+        AtomicInteger builds = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        Callable<PlayerApiClient> lookup = () -> {
+            start.await();
+            return ClientRegistry.getClient(PlayerApiClient.class, configuration, config -> {
+                builds.incrementAndGet();
+                return new PlayerApiClient(config);
+            });
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<PlayerApiClient>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(lookup));
+            }
+            start.countDown();
+
+            PlayerApiClient first = futures.get(0).get();
+            for (Future<PlayerApiClient> future : futures) {
+                PlayerApiClient client = future.get();
+                assertSame(client, first, "All threads should get the same client");
+                assertSame(client.getRequestSpecification(), first.getRequestSpecification(),
+                        "All threads should share the same request specification");
+            }
+            assertEquals(builds.get(), 1, "Client and request specification should be built exactly once");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "Equal configurations share a client")
+    @Description("Verify that shared() returns the same client for equal configurations and different clients otherwise")
+    public void testSharedClientIsKeyedByConfiguration() {
+        Configuration configuration = uniqueConfiguration();
+        Configuration equalConfiguration = Configuration.builder()
+                .servicePath(configuration.getServicePath())
+                .contentType(configuration.getContentType())
+                .build();
+
+        assertSame(PlayerApiClient.shared(configuration), PlayerApiClient.shared(equalConfiguration),
+                "Equal configurations should share a client");
+        assertNotSame(PlayerApiClient.shared(configuration), PlayerApiClient.shared(uniqueConfiguration()),
+                "Different configurations should not share a client");
+    }
+
+    private static Configuration uniqueConfiguration() {
+        return Configuration.builder()
+                .servicePath("http://client-registry.test/" + System.nanoTime())
+                .contentType("application/json")
+                .build();
+    }
+}
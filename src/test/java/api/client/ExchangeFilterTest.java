@@ -0,0 +1,135 @@
+package api.client;
+
+import api.model.request.Player;
+import api.model.response.PlayerResponse;
+import api.requests.AsyncPlayerApiClient;
+import api.requests.PlayerApiClient;
+import api.stub.PlayerStubServer;
+import common.PropertiesReader;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.Test;
+import util.PlayerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Test suite for recording exchanges against the in-process player stub server and replaying them without it.
+ */
+@Epic("Framework")
+@Feature("Record and Replay")
+public final class ExchangeFilterTest {
+
+    @Test(description = "Recorded exchanges are replayed without the service")
+    @Description("Verify that replayed responses match the recorded ones once the service is gone")
+    public void testRecordAndReplay() throws IOException {
+        Path log = Files.createTempFile("http-exchanges", ".bin");
+        String editor = PropertiesReader.snapshot().getDefaultSupervisorLogin();
+        Player player = PlayerFactory.seeded(21).validPlayer();
+
+        String servicePath;
+        String recordedPlayer;
+        try (PlayerStubServer stubServer = PlayerStubServer.start()) {
+            servicePath = stubServer.getBaseUrl();
+            PlayerApiClient recorder = createClient(servicePath, ExchangeMode.RECORD, log);
+            Integer playerId = recorder.createPlayer(editor, player)
+                    .expectingStatusCode(200)
+                    .readEntity(PlayerResponse.class)
+                    .getPlayerId();
+            recordedPlayer = recorder.getPlayer(playerId).expectingStatusCode(200).getBodyAsString();
+            recorder.getPlayer(Integer.MAX_VALUE).expectingStatusCode(404);
+        }
+
+        PlayerApiClient replayer = createClient(servicePath, ExchangeMode.REPLAY, log);
+        Integer playerId = replayer.createPlayer(editor, player)
+                .expectingStatusCode(200)
+                .readEntity(PlayerResponse.class)
+                .getPlayerId();
+
+        assertEquals(replayer.getPlayer(playerId).expectingStatusCode(200).getBodyAsString(), recordedPlayer,
+                "The replayed player should match the recorded one");
+        replayer.getPlayer(Integer.MAX_VALUE).expectingStatusCode(404);
+        assertEquals(ExchangeReplayer.open(log).size(), 3, "All exchanges should be recorded");
+        assertThrows(IllegalStateException.class, replayer::getAllPlayers);
+    }
+
+    @Test(description = "Generated values are masked, everything else must match")
+    @Description("Verify that a request with fresh logins and screen names replays its recording, "
+            + "while a request differing in other values fails instead of getting another request's response")
+    public void testReplayMatchesOnlyTheSameRequest() throws IOException {
+        Path log = Files.createTempFile("http-exchanges", ".bin");
+        String editor = PropertiesReader.snapshot().getDefaultSupervisorLogin();
+        Player recorded = PlayerFactory.seeded(22).validPlayer();
+
+        String servicePath;
+        try (PlayerStubServer stubServer = PlayerStubServer.start()) {
+            servicePath = stubServer.getBaseUrl();
+            createClient(servicePath, ExchangeMode.RECORD, log).createPlayer(editor, recorded).expectingStatusCode(200);
+        }
+
+        PlayerApiClient replayer = createClient(servicePath, ExchangeMode.REPLAY, log);
+        Player rerun = PlayerFactory.seeded(22).validPlayer();
+        assertNotEquals(rerun.getLogin(), recorded.getLogin(), "The rerun should generate a new login");
+        replayer.createPlayer(editor, rerun).expectingStatusCode(200);
+
+        Player other = PlayerFactory.seeded(22).validPlayer();
+        other.setAge(other.getAge() + 1);
+        assertThrows(IllegalStateException.class, () -> replayer.createPlayer(editor, other));
+    }
+
+    @Test(description = "Async requests are recorded and replayed")
+    @Description("Verify that the async client records its exchanges, including deletions, and replays them "
+            + "without the service")
+    public void testAsyncRecordAndReplay() throws IOException {
+        Path log = Files.createTempFile("http-exchanges", ".bin");
+        String editor = PropertiesReader.snapshot().getDefaultSupervisorLogin();
+        Player player = PlayerFactory.seeded(23).validPlayer();
+
+        String servicePath;
+        try (PlayerStubServer stubServer = PlayerStubServer.start()) {
+            servicePath = stubServer.getBaseUrl();
+            AsyncPlayerApiClient recorder = new AsyncPlayerApiClient(configuration(servicePath, ExchangeMode.RECORD, log));
+            Integer playerId = recorder.createPlayer(editor, player).join()
+                    .expectingStatusCode(200)
+                    .readEntity(PlayerResponse.class)
+                    .getPlayerId();
+            recorder.deletePlayer(editor, playerId).join().expectingStatusCode(200);
+            assertEquals(stubServer.getPlayerCount(), 0, "The recorded player should be deleted");
+        }
+
+        AsyncPlayerApiClient replayer = new AsyncPlayerApiClient(configuration(servicePath, ExchangeMode.REPLAY, log));
+        Integer playerId = replayer.createPlayer(editor, player).join()
+                .expectingStatusCode(200)
+                .readEntity(PlayerResponse.class)
+                .getPlayerId();
+        replayer.deletePlayer(editor, playerId).join().expectingStatusCode(200);
+        CompletionException failure = expectThrows(CompletionException.class,
+                () -> replayer.deletePlayer(editor, playerId + 1).join());
+        assertTrue(failure.getCause() instanceof IllegalStateException, "Unrecorded requests should fail");
+    }
+
+    private static PlayerApiClient createClient(final String servicePath, final ExchangeMode mode, final Path log) {
+        return new PlayerApiClient(configuration(servicePath, mode, log));
+    }
+
+    private static Configuration configuration(final String servicePath, final ExchangeMode mode, final Path log) {
+        return Configuration.builder()
+                .servicePath(servicePath)
+                .contentType("application/json")
+                .logPolicy(LogPolicy.NONE)
+                .allureAttachmentMode(AllureAttachmentMode.OFF)
+                .exchangeMode(mode)
+                .exchangeLogFile(log.toString())
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package api.client;
+
+import api.model.request.Player;
+import api.model.response.PlayerResponse;
+import api.requests.PlayerApiClient;
+import api.stub.PlayerStubServer;
+import common.PropertiesReader;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import util.PlayerFactory;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test suite for the per-endpoint request metrics, executed against the in-process player stub server.
+ */
+@Epic("Framework")
+@Feature("Request Metrics")
+public final class RequestMetricsTest {
+
+    private PlayerStubServer stubServer;
+    private PlayerApiClient apiClient;
+
+    @BeforeClass
+    public void setUp() {
+        stubServer = PlayerStubServer.start();
+        apiClient = new PlayerApiClient(Configuration.builder()
+                .servicePath(stubServer.getBaseUrl())
+                .contentType("application/json")
+                .logPolicy(LogPolicy.NONE)
+                .allureAttachmentMode(AllureAttachmentMode.OFF)
+                .metricsEnabled(true)
+                .build());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        if (stubServer != null) {
+            stubServer.close();
+        }
+    }
+
+    @Test(description = "Calls are recorded per endpoint template")
+    @Description("Verify that requests are keyed by method and path template and that error statuses are counted")
+    public void testCallsAreRecordedByTemplate() {
+        RequestMetrics metrics = RequestMetrics.getInstance();
+        RequestMetrics.Endpoint update = metrics.endpoint("PATCH", "/player/update/{editor}/{id}");
+        RequestMetrics.Endpoint get = metrics.endpoint("POST", "/player/get");
+        long updatesBefore = update.getCount();
+        long getsBefore = get.getCount();
+        long getErrorsBefore = get.getErrors();
+
+        String editor = PropertiesReader.snapshot().getDefaultSupervisorLogin();
+        Integer playerId = apiClient.createPlayer(editor, PlayerFactory.seeded(3).validPlayer())
+                .expectingStatusCode(200)
+                .readEntity(PlayerResponse.class)
+                .getPlayerId();
+        Player change = new Player();
+        change.setAge(40);
+        apiClient.updatePlayer(editor, playerId, change).expectingStatusCode(200);
+        apiClient.updatePlayer(editor, playerId, change).expectingStatusCode(200);
+        apiClient.getPlayer(Integer.MAX_VALUE).expectingStatusCode(404);
+
+        assertEquals(update.getCount() - updatesBefore, 2L, "Both updates should be recorded under the template");
+        assertEquals(get.getCount() - getsBefore, 1L, "The get should be recorded");
+        assertEquals(get.getErrors() - getErrorsBefore, 1L, "The 404 should count as an error");
+        assertTrue(update.getLatencyMillis(99) > 0, "Latency should be recorded");
+        assertFalse(metrics.getEndpoints().containsKey("PATCH /player/update/" + editor + "/" + playerId),
+                "Resolved paths should not become endpoints");
+        assertTrue(metrics.toJson().contains("\"PATCH /player/update/{editor}/{id}\""),
+                "JSON should be keyed by endpoint template");
+    }
+}
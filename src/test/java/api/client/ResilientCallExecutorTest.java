@@ -0,0 +1,188 @@
+package api.client;
+
+import api.requests.PlayerApiClient;
+import api.stub.PlayerStubServer;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.WithAttachments;
+import io.qameta.allure.model.WithSteps;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test suite for the retries and hedging of idempotent calls.
+ */
+@Epic("Framework")
+@Feature("Resilient Calls")
+public final class ResilientCallExecutorTest {
+
+    private static final int WARM_UP_CALLS = 50;
+    private static final long SLOW_CALL_MILLIS = 2_000;
+
+    @Test(description = "Server errors are retried until a call succeeds")
+    @Description("Verify that 5xx responses are retried with backoff and that 4xx responses are not")
+    public void testServerErrorsAreRetried() {
+        ResilientCallExecutor executor = new ResilientCallExecutor(configuration(2, false));
+        AtomicInteger attempts = new AtomicInteger();
+
+        Response response = executor.execute("get", () -> response(attempts.incrementAndGet() < 3 ? 503 : 200));
+        Response notFound = executor.execute("get", () -> response(404));
+
+        assertEquals(response.getStatusCode(), 200);
+        assertEquals(attempts.get(), 3, "Both server errors should be retried");
+        assertEquals(notFound.getStatusCode(), 404);
+        assertEquals(executor.getRetries(), 2L, "Only the server errors should count as retries");
+    }
+
+    @Test(description = "Failures are rethrown once retries are exhausted")
+    @Description("Verify that a call failing on every attempt is tried retry count + 1 times")
+    public void testRetriesAreExhausted() {
+        ResilientCallExecutor executor = new ResilientCallExecutor(configuration(1, false));
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> executor.execute("get", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("Connection reset");
+        }));
+        assertEquals(attempts.get(), 2);
+    }
+
+    @Test(description = "A slow call is hedged and the faster response wins")
+    @Description("Verify that a call slower than the p95 latency gets a hedged request whose response is returned "
+            + "without waiting for the slow one")
+    public void testSlowCallIsHedged() {
+        ResilientCallExecutor executor = warmedUp(configuration(0, true));
+        long hedgesBefore = executor.getHedges();
+        long hedgeWinsBefore = executor.getHedgeWins();
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicReference<Thread> primaryThread = new AtomicReference<>();
+
+        long start = System.nanoTime();
+        Response response = executor.execute("get", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                primaryThread.set(Thread.currentThread());
+                sleep(SLOW_CALL_MILLIS);
+                return response(200);
+            }
+            return response(204);
+        });
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertNotEquals(primaryThread.get(), Thread.currentThread(), "The first request should run on the pool");
+        assertEquals(response.getStatusCode(), 204, "The hedged response should win");
+        assertTrue(elapsedMillis < SLOW_CALL_MILLIS, "The slow request should not be waited for: " + elapsedMillis);
+        assertEquals(executor.getHedges() - hedgesBefore, 1L, "The slow call should be hedged once");
+        assertEquals(executor.getHedgeWins() - hedgeWinsBefore, 1L, "The hedge should count as a win");
+    }
+
+    @Test(description = "A hedge that loses is not counted as a win")
+    @Description("Verify that the response of a slow request is returned when its hedge fails")
+    public void testFailedHedgeDoesNotWin() {
+        ResilientCallExecutor executor = warmedUp(configuration(0, true));
+        long hedgesBefore = executor.getHedges();
+        long hedgeWinsBefore = executor.getHedgeWins();
+        AtomicInteger attempts = new AtomicInteger();
+
+        Response response = executor.execute("get", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(SLOW_CALL_MILLIS / 4);
+                return response(200);
+            }
+            throw new IllegalStateException("Connection reset");
+        });
+
+        assertEquals(response.getStatusCode(), 200, "The slow response should be returned");
+        assertEquals(executor.getHedges() - hedgesBefore, 1L, "The slow call should be hedged once");
+        assertEquals(executor.getHedgeWins(), hedgeWinsBefore, "A failed hedge should not count as a win");
+    }
+
+    @Test(description = "Hedged calls attach their exchanges to the test")
+    @Description("Verify that the exchanges of a call sent from the hedging pool are attached to the test case or "
+            + "step that made the call")
+    public void testHedgedCallAttachesToTest() {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        Optional<String> testCase = lifecycle.getCurrentTestCase();
+        if (testCase.isEmpty()) {
+            throw new SkipException("The Allure TestNG listener is not running");
+        }
+        try (PlayerStubServer stubServer = PlayerStubServer.start()) {
+            PlayerApiClient apiClient = new PlayerApiClient(Configuration.builder()
+                    .servicePath(stubServer.getBaseUrl())
+                    .contentType("application/json")
+                    .logPolicy(LogPolicy.NONE)
+                    .allureAttachmentMode(AllureAttachmentMode.ALWAYS)
+                    .hedgingEnabled(true)
+                    .build());
+            for (int i = 0; i < WARM_UP_CALLS; i++) {
+                apiClient.getPlayer(1, true);
+            }
+            int attachmentsBefore = countAttachments(lifecycle, testCase.get());
+
+            apiClient.getPlayer(1, true);
+
+            assertTrue(countAttachments(lifecycle, testCase.get()) - attachmentsBefore >= 2,
+                    "The request and response of the hedged call should be attached to the test");
+        }
+    }
+
+    private static ResilientCallExecutor warmedUp(final Configuration configuration) {
+        ResilientCallExecutor executor = new ResilientCallExecutor(configuration);
+        for (int i = 0; i < WARM_UP_CALLS; i++) {
+            executor.execute("get", () -> response(200));
+        }
+        return executor;
+    }
+
+    private static int countAttachments(final AllureLifecycle lifecycle, final String testCase) {
+        AtomicInteger count = new AtomicInteger();
+        lifecycle.updateTestCase(testCase, result -> count.set(countAttachments(result)));
+        return count.get();
+    }
+
+    private static int countAttachments(final WithAttachments result) {
+        int count = result.getAttachments().size();
+        if (result instanceof WithSteps) {
+            for (StepResult step : ((WithSteps) result).getSteps()) {
+                count += countAttachments(step);
+            }
+        }
+        return count;
+    }
+
+    private static Configuration configuration(final int retryCount, final boolean hedgingEnabled) {
+        return Configuration.builder()
+                .servicePath("http://localhost")
+                .retryCount(retryCount)
+                .retryBackoffMillis(1)
+                .hedgingEnabled(hedgingEnabled)
+                .build();
+    }
+
+    private static Response response(final int statusCode) {
+        return new ResponseBuilder().setStatusCode(statusCode).setBody("{}").build();
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package api.client;
+
+import api.model.request.Player;
+import api.model.response.PlayerResponse;
+import api.requests.PlayerApiClient;
+import api.stub.PlayerStubServer;
+import common.PropertiesReader;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import util.PlayerFactory;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Test suite for the {@link ResponseCache} and the cached {@link PlayerApiClient#getPlayer(Integer)},
+ * executed against the in-process player stub server.
+ */
+@Epic("Framework")
+@Feature("Response Cache")
+public final class ResponseCacheTest {
+
+    private PlayerStubServer stubServer;
+
+    @BeforeClass
+    public void setUp() {
+        stubServer = PlayerStubServer.start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        if (stubServer != null) {
+            stubServer.close();
+        }
+    }
+
+    @Test(description = "Repeated reads are served from the cache until the player is updated")
+    @Description("Verify that getPlayer caches responses and that updatePlayer invalidates them")
+    public void testUpdateInvalidatesCachedPlayer() {
+        PlayerApiClient apiClient = createClient(16);
+        String editor = PropertiesReader.snapshot().getDefaultSupervisorLogin();
+        Integer playerId = apiClient.createPlayer(editor, PlayerFactory.seeded(15).validPlayer())
+                .expectingStatusCode(200)
+                .readEntity(PlayerResponse.class)
+                .getPlayerId();
+
+        ResponseWrapper first = apiClient.getPlayer(playerId).expectingStatusCode(200);
+        assertSame(apiClient.getPlayer(playerId), first, "The second read should be served from the cache");
+
+        Player change = new Player();
+        change.setAge(41);
+        apiClient.updatePlayer(editor, playerId, change).expectingStatusCode(200);
+        ResponseWrapper updated = apiClient.getPlayer(playerId).expectingStatusCode(200);
+
+        assertNotSame(updated, first, "The update should invalidate the cached player");
+        assertEquals(updated.readEntity(PlayerResponse.class).getAge(), Integer.valueOf(41),
+                "The read after the update should see the change");
+        assertNotSame(apiClient.getPlayer(playerId, true), updated, "Bypassing the cache should ask the service");
+        assertEquals(apiClient.getPlayerCache().getHits(), 1L, "Only the second read should be a hit");
+    }
+
+    @Test(description = "Error responses are not cached")
+    @Description("Verify that a 404 for an unknown player is not cached")
+    public void testErrorsAreNotCached() {
+        PlayerApiClient apiClient = createClient(16);
+
+        apiClient.getPlayer(Integer.MAX_VALUE).expectingStatusCode(404);
+
+        assertEquals(apiClient.getPlayerCache().size(), 0, "The 404 should not be cached");
+    }
+
+    @Test(description = "The cache is bounded and drops stale responses")
+    @Description("Verify eviction of the oldest entries and that responses fetched across an invalidation are dropped")
+    public void testEvictionAndStalePuts() {
+        ResponseCache<Integer> cache = new ResponseCache<>(2, 60_000);
+        ResponseWrapper response = createClient(0).getPlayer(Integer.MAX_VALUE);
+
+        for (int key = 0; key < 3; key++) {
+            cache.put(key, response, cache.generation());
+        }
+        assertEquals(cache.size(), 2, "The cache should not grow past its maximum size");
+        assertNull(cache.get(0), "The oldest entry should be evicted first");
+        assertEquals(cache.getEvictions(), 1L);
+
+        long generation = cache.generation();
+        cache.invalidate(1);
+        cache.put(5, response, generation);
+        assertNull(cache.get(5), "A response requested before an invalidation should not be cached");
+    }
+
+    private PlayerApiClient createClient(final int cacheMaxSize) {
+        return new PlayerApiClient(Configuration.builder()
+                .servicePath(stubServer.getBaseUrl())
+                .contentType("application/json")
+                .logPolicy(LogPolicy.NONE)
+                .allureAttachmentMode(AllureAttachmentMode.OFF)
+                .cacheMaxSize(cacheMaxSize)
+                .cacheTtlMillis(60_000)
+                .build());
+    }
+}
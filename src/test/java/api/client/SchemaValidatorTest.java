@@ -0,0 +1,69 @@
+package api.client;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Test suite for the cached JSON schema validation.
+ */
+@Epic("Framework")
+@Feature("Schema Validation")
+public final class SchemaValidatorTest {
+
+    private static final String VALID_PLAYERS = "{\"players\":["
+            + "{\"id\":1,\"screenName\":\"first\",\"gender\":\"male\",\"age\":20},"
+            + "{\"id\":2,\"screenName\":\"second\",\"gender\":\"female\",\"age\":30}]}";
+    private static final String INVALID_SECOND_PLAYER = "{\"players\":["
+            + "{\"id\":1,\"screenName\":\"first\",\"gender\":\"male\",\"age\":20},"
+            + "{\"id\":\"two\",\"screenName\":\"second\",\"gender\":\"female\"}]}";
+
+    private final SchemaValidator validator = SchemaValidator.getInstance();
+
+    @Test(description = "Valid bodies pass both validation modes")
+    @Description("Verify that a valid players list passes whole-body and element-by-element validation")
+    public void testValidBody() {
+        validator.validate("players-schema", bytes(VALID_PLAYERS));
+
+        assertEquals(validator.validateArrayElements("players-schema", "players", stream(VALID_PLAYERS)), 2L,
+                "Both elements should be validated");
+    }
+
+    @Test(description = "Invalid elements are reported")
+    @Description("Verify that both validation modes reject an element with a wrong type and a missing field")
+    public void testInvalidElement() {
+        AssertionError wholeBody = expectThrows(AssertionError.class,
+                () -> validator.validate("players-schema", bytes(INVALID_SECOND_PLAYER)));
+        AssertionError streaming = expectThrows(AssertionError.class,
+                () -> validator.validateArrayElements("players-schema", "players", stream(INVALID_SECOND_PLAYER)));
+
+        assertTrue(wholeBody.getMessage().contains("/players/1"), wholeBody.getMessage());
+        assertTrue(streaming.getMessage().startsWith("Element 1 of 'players'"), streaming.getMessage());
+    }
+
+    @Test(description = "Schema names resolve under the schemas directory")
+    @Description("Verify schema name resolution and that a missing schema fails clearly")
+    public void testSchemaResolution() {
+        assertEquals(SchemaValidator.resolve("players-schema"), "schemas/players-schema.json");
+        assertEquals(SchemaValidator.resolve("players-schema.json"), "schemas/players-schema.json");
+        assertEquals(SchemaValidator.resolve("other/players.json"), "other/players.json");
+        assertThrows(IllegalStateException.class, () -> validator.validate("missing-schema", bytes(VALID_PLAYERS)));
+    }
+
+    private static byte[] bytes(final String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static ByteArrayInputStream stream(final String json) {
+        return new ByteArrayInputStream(bytes(json));
+    }
+}
@@ -0,0 +1,137 @@
+package api.client;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test suite for the client-side rate and concurrency limits.
+ */
+@Epic("Framework")
+@Feature("Throttling")
+public final class ThrottleTest {
+
+    private static final int THREADS = 8;
+
+    @Test(description = "The rate limiter spaces permits at the configured rate")
+    @Description("Verify that 21 permits at 100 per second take at least 200 ms")
+    public void testRateLimiterSpacesPermits() {
+        RateLimiter rateLimiter = new RateLimiter(100);
+        long start = System.nanoTime();
+
+        boolean waited = false;
+        for (int i = 0; i <= 20; i++) {
+            waited |= rateLimiter.acquire();
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(waited, "Later permits should have to wait");
+        assertTrue(elapsedMillis >= 195, "Permits should be spaced 10 ms apart, took " + elapsedMillis + " ms");
+    }
+
+    @Test(description = "Requests to an endpoint never exceed its in-flight limit")
+    @Description("Verify that concurrent requests are capped per endpoint and that waiting is counted")
+    public void testEndpointInFlightLimit() throws Exception {
+        Throttle throttle = new Throttle(0, 0, 0, 2);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS * 4; i++) {
+                futures.add(executor.submit(() -> {
+                    throttle.acquire("GET /player/getAll");
+                    try {
+                        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        Thread.sleep(5);
+                    } finally {
+                        inFlight.decrementAndGet();
+                        throttle.release("GET /player/getAll");
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(maxInFlight.get() <= 2, "At most 2 requests should be in flight, were " + maxInFlight.get());
+        assertEquals(throttle.getRequests(), THREADS * 4L);
+        assertTrue(throttle.getThrottled() > 0, "Some requests should have waited: " + throttle);
+    }
+
+    @Test(description = "An interrupted wait for a rate permit gives its slots back")
+    @Description("Verify that a request interrupted while waiting for its rate releases its in-flight slots, "
+            + "so the next request is not blocked")
+    public void testInterruptedRateWaitReleasesSlots() throws Exception {
+        Throttle throttle = new Throttle(10, 1, 0, 1);
+        throttle.acquire("GET /player/getAll");
+        throttle.release("GET /player/getAll");
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(IllegalStateException.class, () -> throttle.acquire("GET /player/getAll"));
+        } finally {
+            Thread.interrupted();
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> {
+                throttle.acquire("GET /player/getAll");
+                throttle.release("GET /player/getAll");
+            }).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "Asynchronous acquisition never blocks the caller")
+    @Description("Verify that acquireAsync completes at once when a slot is free and otherwise waits on the executor "
+            + "until a slot is released")
+    public void testAcquireAsyncDoesNotBlockCaller() throws Exception {
+        Throttle throttle = new Throttle(0, 1, 0, 0);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<Long> first = throttle.acquireAsync("GET /player/getAll", executor);
+            assertTrue(first.isDone(), "A free slot should be taken on the calling thread");
+            assertEquals(first.join().longValue(), 0L);
+
+            CompletableFuture<Long> second = throttle.acquireAsync("GET /player/getAll", executor);
+            Thread.sleep(50);
+            assertFalse(second.isDone(), "The second request should wait for the slot");
+
+            throttle.release("GET /player/getAll");
+            assertTrue(second.get(5, TimeUnit.SECONDS) > 0, "The wait should be measured");
+            throttle.release("GET /player/getAll");
+            assertEquals(throttle.getThrottled(), 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "No throttle is created without limits")
+    @Description("Verify that a configuration without limits leaves requests unthrottled")
+    public void testNoLimits() {
+        assertNull(Throttle.of(Configuration.builder().servicePath("http://localhost").build()));
+    }
+}
@@ -0,0 +1,153 @@
+package api.requests;
+
+import api.client.AllureAttachmentMode;
+import api.client.Configuration;
+import api.client.LogPolicy;
+import api.client.ResponseWrapper;
+import api.model.request.Player;
+import api.model.response.PlayerResponse;
+import api.stub.PlayerStubServer;
+import common.PropertiesReader;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import util.PlayerFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.http.HttpTimeoutException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Test suite for the non-blocking player client and the bulk operations built on it,
+ * executed against the in-process player stub server.
+ */
+@Epic("Framework")
+@Feature("Async Client")
+public final class AsyncPlayerApiClientTest {
+
+    private static final int STALLED_TIMEOUT_MILLIS = 500;
+
+    private PlayerStubServer stubServer;
+    private AsyncPlayerApiClient apiClient;
+    private String editor;
+
+    @BeforeClass
+    public void setUp() {
+        stubServer = PlayerStubServer.start();
+        apiClient = new AsyncPlayerApiClient(Configuration.builder()
+                .servicePath(stubServer.getBaseUrl())
+                .contentType("application/json")
+                .logPolicy(LogPolicy.NONE)
+                .allureAttachmentMode(AllureAttachmentMode.OFF)
+                .maxInFlight(2)
+                .build());
+        editor = PropertiesReader.snapshot().getDefaultSupervisorLogin();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        if (stubServer != null) {
+            stubServer.close();
+        }
+    }
+
+    @Test(description = "Players are created, read and deleted asynchronously")
+    @Description("Verify that async calls complete with the same responses as blocking ones and pass the throttle")
+    public void testCreateGetDelete() {
+        Player player = PlayerFactory.seeded(1).validPlayer();
+
+        Integer playerId = apiClient.createPlayer(editor, player).join()
+                .expectingStatusCode(200)
+                .readEntity(PlayerResponse.class)
+                .getPlayerId();
+        PlayerResponse created = apiClient.getPlayer(playerId).join()
+                .expectingStatusCode(200)
+                .readEntity(PlayerResponse.class);
+        assertEquals(created.getLogin(), player.getLogin(), "The player should be read back as created");
+
+        apiClient.deletePlayer(editor, playerId).join().expectingStatusCode(200);
+        apiClient.getPlayer(playerId).join().expectingStatusCode(404);
+        assertTrue(apiClient.getThrottle().getRequests() >= 4, "Requests should pass the throttle");
+    }
+
+    @Test(description = "Requests to a stalled service time out without blocking the caller")
+    @Description("Verify that throttled requests return their futures at once and fail with the configured request "
+            + "timeout when the service accepts connections but never answers")
+    public void testStalledServiceTimesOut() throws IOException {
+        try (ServerSocket stalledService = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            AsyncPlayerApiClient stalledClient = new AsyncPlayerApiClient(Configuration.builder()
+                    .servicePath("http://" + stalledService.getInetAddress().getHostAddress() + ":"
+                            + stalledService.getLocalPort())
+                    .contentType("application/json")
+                    .logPolicy(LogPolicy.NONE)
+                    .allureAttachmentMode(AllureAttachmentMode.OFF)
+                    .maxInFlight(1)
+                    .requestTimeoutMillis(STALLED_TIMEOUT_MILLIS)
+                    .build());
+
+            long start = System.nanoTime();
+            CompletableFuture<ResponseWrapper> first = stalledClient.getPlayer(1);
+            CompletableFuture<ResponseWrapper> second = stalledClient.getPlayer(2);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertTrue(elapsedMillis < STALLED_TIMEOUT_MILLIS,
+                    "Sending should not wait for the throttle, took " + elapsedMillis + " ms");
+            assertTimedOut(first);
+            assertTimedOut(second);
+
+            BulkResult<Integer> deleted = PlayerBulkOperations.builder()
+                    .client(stalledClient)
+                    .maxConcurrency(2)
+                    .build()
+                    .deletePlayers(editor, List.of(1, 2, 3));
+            assertEquals(deleted.getFailed().size(), 3, "Every deletion should fail with a timeout: " + deleted);
+        }
+    }
+
+    @Test(description = "Bulk operations create and delete players in a sliding window")
+    @Description("Verify that bulk creation and deletion succeed for every player and leave nothing behind")
+    public void testBulkCreateAndDelete() {
+        PlayerFactory factory = PlayerFactory.seeded(2);
+        List<Player> players = List.of(factory.validPlayer(), factory.validPlayer(), factory.validPlayer(),
+                factory.validPlayer(), factory.validPlayer());
+        PlayerBulkOperations bulkOperations = PlayerBulkOperations.builder()
+                .client(apiClient)
+                .maxConcurrency(3)
+                .build();
+
+        BulkResult<Player> created = bulkOperations.createPlayers(editor, players);
+        assertTrue(created.allSucceeded(), "All players should be created: " + created);
+
+        List<Integer> playerIds = created.getItems().stream()
+                .map(item -> item.getResponse().readEntity(PlayerResponse.class).getPlayerId())
+                .collect(Collectors.toList());
+        BulkResult<Integer> deleted = bulkOperations.deletePlayers(editor, playerIds);
+        assertTrue(deleted.allSucceeded(), "All players should be deleted: " + deleted);
+        for (Integer playerId : playerIds) {
+            apiClient.getPlayer(playerId).join().expectingStatusCode(404);
+        }
+    }
+
+    private static void assertTimedOut(final CompletableFuture<ResponseWrapper> future) {
+        CompletionException failure = expectThrows(CompletionException.class, future::join);
+        Throwable cause = failure;
+        while (cause != null && !(cause instanceof HttpTimeoutException)) {
+            cause = cause.getCause();
+        }
+        assertNotNull(cause, "The request should time out: " + failure);
+    }
+}
@@ -0,0 +1,67 @@
+package api.stub;
+
+import common.PropertiesReader;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Test suite for the in-process player stub server itself.
+ */
+@Epic("Framework")
+@Feature("Player Stub")
+public final class PlayerStubServerTest {
+
+    private PlayerStubServer stubServer;
+    private HttpClient httpClient;
+    private String editor;
+
+    @BeforeClass
+    public void setUp() {
+        stubServer = PlayerStubServer.start();
+        httpClient = HttpClient.newHttpClient();
+        editor = PropertiesReader.snapshot().getDefaultSupervisorLogin();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        if (stubServer != null) {
+            stubServer.close();
+        }
+    }
+
+    @DataProvider
+    public Object[][] badBodies() {
+        return new Object[][]{
+                {"POST", "/player/get", "{\"playerId\": "},
+                {"POST", "/player/get", "not json"},
+                {"PATCH", "/player/update/" + editor + "/1", ""},
+                {"PATCH", "/player/update/" + editor + "/1", "{\"age\": \"old\"}"}
+        };
+    }
+
+    @Test(description = "Malformed request bodies are rejected with 400", dataProvider = "badBodies")
+    @Description("Verify that the stub answers an empty or malformed JSON body with 400 instead of dropping the connection")
+    public void testMalformedBodyIsBadRequest(final String method, final String path, final String body)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(stubServer.getBaseUrl() + path))
+                        .header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(response.statusCode(), 400, "Unexpected response: " + response.body());
+    }
+}
@@ -0,0 +1,115 @@
+package benchmark;
+
+import api.client.AllureAttachmentMode;
+import api.client.Configuration;
+import api.client.LogPolicy;
+import api.client.ResponseWrapper;
+import api.requests.PlayerApiClient;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static common.Properties.LOGGING_ASYNC;
+import static common.Properties.LOGGING_ASYNC_BLOCKING;
+import static common.Properties.LOGGING_LEVEL;
+
+/**
+ * Measures the time of {@link PlayerApiClient#getPlayer(Integer)} against a local HTTP server with synchronous
+ * logging and with asynchronous logging that blocks or drops when its queue is full, showing how long the calling
+ * thread spends on console and file output per request. At {@code DEBUG}, {@link ResponseWrapper} logs too.
+ * Exchange logging and Allure attachments are turned off so that only the Log4j pipeline varies.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingPipelineBenchmark {
+
+    private static final byte[] PLAYER_BODY = ("{\"id\":1,\"age\":30,\"gender\":\"male\",\"login\":\"benchmark_login\","
+            + "\"password\":\"secret123\",\"role\":\"user\",\"screenName\":\"benchmark_screen_name\"}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * The logging pipeline under test.
+     */
+    public enum Pipeline {
+        SYNC,
+        ASYNC_BLOCKING,
+        ASYNC_DROPPING
+    }
+
+    @Param({"SYNC", "ASYNC_BLOCKING", "ASYNC_DROPPING"})
+    private Pipeline pipeline;
+
+    @Param({"INFO", "DEBUG"})
+    private String level;
+
+    private HttpServer server;
+    private PlayerApiClient apiClient;
+
+    @Setup
+    public void setUp() throws IOException {
+        System.setProperty(LOGGING_ASYNC, Boolean.toString(pipeline != Pipeline.SYNC));
+        System.setProperty(LOGGING_ASYNC_BLOCKING, Boolean.toString(pipeline != Pipeline.ASYNC_DROPPING));
+        System.setProperty(LOGGING_LEVEL, level);
+        Configurator.reconfigure();
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, PLAYER_BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(PLAYER_BODY);
+            }
+        });
+        server.start();
+
+        apiClient = new PlayerApiClient(Configuration.builder()
+                .servicePath("http://localhost:" + server.getAddress().getPort())
+                .contentType("application/json")
+                .logPolicy(LogPolicy.NONE)
+                .allureAttachmentMode(AllureAttachmentMode.OFF)
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public ResponseWrapper getPlayer() {
+        return apiClient.getPlayer(1);
+    }
+
+    /**
+     * Several threads logging at once, as with {@code parallel=methods}, contend for the appenders in synchronous mode.
+     */
+    @Benchmark
+    @Threads(4)
+    public ResponseWrapper getPlayerConcurrently() {
+        return apiClient.getPlayer(1);
+    }
+}
@@ -0,0 +1,83 @@
+package benchmark;
+
+import api.client.AllureAttachmentMode;
+import api.client.Configuration;
+import api.client.LogPolicy;
+import api.client.ResponseWrapper;
+import api.requests.PlayerApiClient;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link PlayerApiClient#getPlayer(Integer)} against a local HTTP server
+ * for each {@link LogPolicy}, showing what request/response logging costs per call.
+ * Allure attachments are turned off so that only the logging cost varies.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingPolicyBenchmark {
+
+    private static final byte[] PLAYER_BODY = ("{\"id\":1,\"age\":30,\"gender\":\"male\",\"login\":\"benchmark_login\","
+            + "\"password\":\"secret123\",\"role\":\"user\",\"screenName\":\"benchmark_screen_name\"}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"NONE", "HEADERS", "ALL", "ON_FAILURE"})
+    private LogPolicy logPolicy;
+
+    private HttpServer server;
+    private PlayerApiClient apiClient;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, PLAYER_BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(PLAYER_BODY);
+            }
+        });
+        server.start();
+
+        apiClient = new PlayerApiClient(Configuration.builder()
+                .servicePath("http://localhost:" + server.getAddress().getPort())
+                .contentType("application/json")
+                .logPolicy(logPolicy)
+                .maxLoggedBodyLength(2048)
+                .allureAttachmentMode(AllureAttachmentMode.OFF)
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public ResponseWrapper getPlayer() {
+        return apiClient.getPlayer(1);
+    }
+}
@@ -0,0 +1,103 @@
+package benchmark;
+
+import api.client.AllureAttachmentMode;
+import api.client.Configuration;
+import api.client.LogPolicy;
+import api.client.ResponseWrapper;
+import api.model.request.Player;
+import api.model.response.PlayerResponse;
+import api.requests.PlayerApiClient;
+import api.stub.PlayerStubServer;
+import common.PropertiesReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import util.PlayerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link PlayerApiClient} calls end to end against the in-process {@link PlayerStubServer},
+ * so the numbers are dominated by request construction, filters and response handling rather than the network.
+ * The stub holds {@code players} players, which sets the size of the {@code /player/getAll} payload.
+ * Logging and Allure attachments are turned off.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlayerApiClientBenchmark {
+
+    @Param({"10", "1000"})
+    private int players;
+
+    private PlayerStubServer stubServer;
+    private PlayerApiClient apiClient;
+    private PlayerFactory playerFactory;
+    private String editor;
+    private Integer playerId;
+    private Player update;
+
+    @Setup
+    public void setUp() {
+        stubServer = PlayerStubServer.start();
+        apiClient = new PlayerApiClient(Configuration.builder()
+                .servicePath(stubServer.getBaseUrl())
+                .contentType("application/json")
+                .logPolicy(LogPolicy.NONE)
+                .allureAttachmentMode(AllureAttachmentMode.OFF)
+                .build());
+        playerFactory = PlayerFactory.seeded(1);
+        editor = PropertiesReader.snapshot().getDefaultSupervisorLogin();
+        for (int i = 0; i < players; i++) {
+            playerId = apiClient.createPlayer(editor, playerFactory.validPlayer())
+                    .expectingStatusCode(200)
+                    .readEntity(PlayerResponse.class)
+                    .getPlayerId();
+        }
+        update = new Player();
+        update.setAge(30);
+    }
+
+    @TearDown
+    public void tearDown() {
+        stubServer.close();
+    }
+
+    @Benchmark
+    public PlayerResponse getPlayer() {
+        return apiClient.getPlayer(playerId).readEntity(PlayerResponse.class);
+    }
+
+    @Benchmark
+    public ResponseWrapper getAllPlayers() {
+        return apiClient.getAllPlayers();
+    }
+
+    @Benchmark
+    public ResponseWrapper updatePlayer() {
+        return apiClient.updatePlayer(editor, playerId, update);
+    }
+
+    /**
+     * Creates a player and deletes it again, keeping the stub at a constant size.
+     */
+    @Benchmark
+    public int createAndDeletePlayer() {
+        Integer created = apiClient.createPlayer(editor, playerFactory.validPlayer())
+                .readEntity(PlayerResponse.class)
+                .getPlayerId();
+        return apiClient.deletePlayer(editor, created).getStatusCode();
+    }
+}
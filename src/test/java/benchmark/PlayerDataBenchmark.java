@@ -0,0 +1,47 @@
+package benchmark;
+
+import api.model.request.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import util.PlayerFactory;
+import util.TestDataGenerator;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of one valid player from the Faker-based {@link TestDataGenerator} and from {@link PlayerFactory}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayerDataBenchmark {
+
+    private PlayerFactory playerFactory;
+
+    @Setup
+    public void setUp() {
+        playerFactory = PlayerFactory.seeded(ThreadLocalRandom.current().nextLong());
+    }
+
+    @Benchmark
+    public Player testDataGenerator() {
+        return TestDataGenerator.generateValidPlayer();
+    }
+
+    @Benchmark
+    public Player playerFactory() {
+        return playerFactory.validPlayer();
+    }
+}
@@ -0,0 +1,51 @@
+package benchmark;
+
+import common.PropertiesReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static common.Properties.BASE_URL;
+import static common.Properties.TEST_USER_MAX_AGE;
+
+/**
+ * Measures property lookups through {@link PropertiesReader} once the snapshot is resolved.
+ * Run with {@code -Djmh.args="-prof gc"}: {@code gc.alloc.rate.norm} should be about 0 B/op for every case.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertiesReaderBenchmark {
+
+    @Setup
+    public void setUp() {
+        PropertiesReader.snapshot();
+    }
+
+    @Benchmark
+    public String getProperty() {
+        return PropertiesReader.getProperty(BASE_URL);
+    }
+
+    @Benchmark
+    public int getIntProperty() {
+        return PropertiesReader.getIntProperty(TEST_USER_MAX_AGE, 60);
+    }
+
+    @Benchmark
+    public int typedAccessor() {
+        return PropertiesReader.snapshot().getTestUserMaxAge();
+    }
+}
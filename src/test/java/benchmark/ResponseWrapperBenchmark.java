@@ -0,0 +1,95 @@
+package benchmark;
+
+import api.client.JsonSupport;
+import api.client.ResponseWrapper;
+import api.model.response.PlayerResponse;
+import api.model.response.PlayerShortResponse;
+import api.model.response.PlayersResponse;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures deserialization of response bodies through {@link ResponseWrapper}, for a single player and for
+ * {@code /player/getAll} payloads of increasing size, both mapped as a whole and streamed element by element,
+ * and of validating those payloads against the players schema.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseWrapperBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int players;
+
+    private ResponseWrapper playerResponse;
+    private ResponseWrapper playersResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        PlayerResponse player = new PlayerResponse(1, 30, "male", "benchmark_login", "secret123", "user",
+                "benchmark_screen_name");
+        playerResponse = new ResponseWrapper(response(JsonSupport.writer().writeValueAsBytes(player)));
+
+        List<PlayerShortResponse> list = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            list.add(new PlayerShortResponse(i, "screen_name_" + i, i % 2 == 0 ? "male" : "female", 16 + i % 45));
+        }
+        playersResponse = new ResponseWrapper(response(JsonSupport.writer().writeValueAsBytes(new PlayersResponse(list))));
+    }
+
+    @Benchmark
+    public PlayerResponse readPlayer() {
+        return playerResponse.readEntity(PlayerResponse.class);
+    }
+
+    @Benchmark
+    public PlayersResponse readAllPlayers() {
+        return playersResponse.readEntity(PlayersResponse.class);
+    }
+
+    @Benchmark
+    public void streamAllPlayers(final Blackhole blackhole) {
+        try (Stream<PlayerShortResponse> stream = playersResponse.streamArray("players", PlayerShortResponse.class)) {
+            stream.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public ResponseWrapper validateAllPlayers() {
+        return playersResponse.expectingSchema("players-schema");
+    }
+
+    @Benchmark
+    public ResponseWrapper validateAllPlayersStreaming() {
+        return playersResponse.expectingArraySchema("players-schema", "players");
+    }
+
+    private static Response response(final byte[] body) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package load;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histogram, request count and outcome counts of one endpoint during a load run.
+ * Instances are confined to a single worker while recording and merged afterwards, so recording
+ * needs no synchronization.
+ */
+public final class EndpointStats {
+
+    /** Status key used for requests that failed without an HTTP response. */
+    public static final String TRANSPORT_ERROR = "transport_error";
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram latencyMicros = new Histogram(MAX_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Map<String, Long> outcomes = new TreeMap<>();
+    private long errors;
+
+    /**
+     * Records a request that received an HTTP response.
+     *
+     * @param latencyNanos the latency in nanoseconds
+     * @param statusCode the response status code
+     * @param expected true if the status code is the expected one
+     */
+    void record(final long latencyNanos, final int statusCode, final boolean expected) {
+        recordLatency(latencyNanos);
+        outcomes.merge(String.valueOf(statusCode), 1L, Long::sum);
+        if (!expected) {
+            errors++;
+        }
+    }
+
+    /**
+     * Records a request that failed without an HTTP response.
+     *
+     * @param latencyNanos the latency in nanoseconds
+     */
+    void recordTransportError(final long latencyNanos) {
+        recordLatency(latencyNanos);
+        outcomes.merge(TRANSPORT_ERROR, 1L, Long::sum);
+        errors++;
+    }
+
+    void add(final EndpointStats other) {
+        latencyMicros.add(other.latencyMicros);
+        other.outcomes.forEach((outcome, count) -> outcomes.merge(outcome, count, Long::sum));
+        errors += other.errors;
+    }
+
+    public long getCount() {
+        return latencyMicros.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets the share of requests that did not get the expected status code.
+     *
+     * @return the error rate between 0 and 1
+     */
+    public double getErrorRate() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) errors / count;
+    }
+
+    /**
+     * Gets the number of requests per status code, plus {@link #TRANSPORT_ERROR} for requests without a response.
+     *
+     * @return the outcome counts
+     */
+    public Map<String, Long> getOutcomes() {
+        return Collections.unmodifiableMap(outcomes);
+    }
+
+    /**
+     * Gets the latency at the given percentile.
+     *
+     * @param percentile the percentile, e.g. 99.9
+     * @return the latency in milliseconds
+     */
+    public double getLatencyMillis(final double percentile) {
+        return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double getMeanLatencyMillis() {
+        return latencyMicros.getMean() / 1000.0;
+    }
+
+    public double getMaxLatencyMillis() {
+        return latencyMicros.getMaxValue() / 1000.0;
+    }
+
+    private void recordLatency(final long latencyNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+        latencyMicros.recordValue(Math.max(1, Math.min(micros, MAX_TRACKABLE_MICROS)));
+    }
+}
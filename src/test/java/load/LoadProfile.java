@@ -0,0 +1,244 @@
+package load;
+
+import common.PropertiesReader;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static common.Properties.DEFAULT_SUPERVISOR_LOGIN;
+import static common.Properties.LOAD_CONCURRENCY;
+import static common.Properties.LOAD_DURATION_SECONDS;
+import static common.Properties.LOAD_MIX;
+import static common.Properties.LOAD_RAMP_UP_SECONDS;
+import static common.Properties.LOAD_TARGET_RPS;
+import static common.Properties.LOAD_WARM_UP_SECONDS;
+
+/**
+ * Workload definition for {@link PlayerLoadRunner}.
+ * Immutable design with builder pattern; the mix is a set of relative weights per operation.
+ */
+public final class LoadProfile {
+
+    private final Map<PlayerOperation, Integer> mix;
+    private final int totalWeight;
+    private final int concurrency;
+    private final double targetRps;
+    private final Duration duration;
+    private final Duration rampUp;
+    private final Duration warmUp;
+    private final String editor;
+
+    private LoadProfile(final Builder builder) {
+        this.mix = Collections.unmodifiableMap(new EnumMap<>(builder.mix));
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.concurrency = builder.concurrency;
+        this.targetRps = builder.targetRps;
+        this.duration = builder.duration;
+        this.rampUp = builder.rampUp;
+        this.warmUp = builder.warmUp;
+        this.editor = builder.editor;
+    }
+
+    public Map<PlayerOperation, Integer> getMix() {
+        return mix;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Gets the target request rate across all workers.
+     *
+     * @return the target rate in requests per second, 0 for closed-loop (as fast as the workers can go)
+     */
+    public double getTargetRps() {
+        return targetRps;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Duration getRampUp() {
+        return rampUp;
+    }
+
+    /**
+     * Gets how long the workload runs closed-loop before measuring starts.
+     * Requests made during warm-up are not part of the report.
+     *
+     * @return the warm-up duration
+     */
+    public Duration getWarmUp() {
+        return warmUp;
+    }
+
+    public String getEditor() {
+        return editor;
+    }
+
+    /**
+     * Picks the operation for a value uniformly drawn from {@code [0, totalWeight)}.
+     *
+     * @param value the drawn value
+     * @return the operation
+     */
+    PlayerOperation pick(final int value) {
+        int remaining = value;
+        for (Map.Entry<PlayerOperation, Integer> entry : mix.entrySet()) {
+            remaining -= entry.getValue();
+            if (remaining < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalArgumentException("Value " + value + " is outside of the total weight " + totalWeight);
+    }
+
+    int getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Creates a profile from the {@code load.*} configuration properties.
+     *
+     * @return the configured profile
+     */
+    public static LoadProfile fromProperties() {
+        return builder()
+                .mix(PropertiesReader.getProperty(LOAD_MIX, "create=1,get=4,getAll=1,update=2,delete=1"))
+                .concurrency(PropertiesReader.getIntProperty(LOAD_CONCURRENCY, 8))
+                .targetRps(Double.parseDouble(PropertiesReader.getProperty(LOAD_TARGET_RPS, "0")))
+                .duration(Duration.ofSeconds(PropertiesReader.getIntProperty(LOAD_DURATION_SECONDS, 30)))
+                .rampUp(Duration.ofSeconds(PropertiesReader.getIntProperty(LOAD_RAMP_UP_SECONDS, 5)))
+                .warmUp(Duration.ofSeconds(PropertiesReader.getIntProperty(LOAD_WARM_UP_SECONDS, 5)))
+                .editor(PropertiesReader.getProperty(DEFAULT_SUPERVISOR_LOGIN, "supervisor"))
+                .build();
+    }
+
+    @Override
+    public String toString() {
+        return "LoadProfile{" +
+                "mix=" + mix +
+                ", concurrency=" + concurrency +
+                ", targetRps=" + targetRps +
+                ", duration=" + duration +
+                ", rampUp=" + rampUp +
+                ", warmUp=" + warmUp +
+                ", editor='" + editor + '\'' +
+                '}';
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder class for LoadProfile.
+     */
+    public static final class Builder {
+        private final Map<PlayerOperation, Integer> mix = new EnumMap<>(PlayerOperation.class);
+        private int concurrency = 1;
+        private double targetRps;
+        private Duration duration = Duration.ofSeconds(30);
+        private Duration rampUp = Duration.ZERO;
+        private Duration warmUp = Duration.ZERO;
+        private String editor = "supervisor";
+
+        public Builder weight(final PlayerOperation operation, final int weight) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + operation + " must not be negative: " + weight);
+            }
+            if (weight == 0) {
+                mix.remove(operation);
+            } else {
+                mix.put(operation, weight);
+            }
+            return this;
+        }
+
+        /**
+         * Sets the mix from a specification such as {@code create=1,get=4,getAll=1,update=2,delete=1}.
+         * Operation names are matched case-insensitively, ignoring underscores.
+         *
+         * @param specification the mix specification
+         * @return this builder
+         */
+        public Builder mix(final String specification) {
+            mix.clear();
+            for (String entry : specification.split(",")) {
+                String[] parts = entry.trim().split("=");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Invalid mix entry '" + entry + "' in: " + specification);
+                }
+                weight(operation(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+            }
+            return this;
+        }
+
+        public Builder concurrency(final int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        public Builder targetRps(final double targetRps) {
+            this.targetRps = targetRps;
+            return this;
+        }
+
+        public Builder duration(final Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public Builder rampUp(final Duration rampUp) {
+            this.rampUp = rampUp;
+            return this;
+        }
+
+        public Builder warmUp(final Duration warmUp) {
+            this.warmUp = warmUp;
+            return this;
+        }
+
+        public Builder editor(final String editor) {
+            this.editor = editor;
+            return this;
+        }
+
+        public LoadProfile build() {
+            if (mix.isEmpty()) {
+                throw new IllegalArgumentException("Workload mix must contain at least one operation");
+            }
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("Concurrency must be at least 1: " + concurrency);
+            }
+            if (targetRps < 0) {
+                throw new IllegalArgumentException("Target RPS must not be negative: " + targetRps);
+            }
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException("Duration must be positive: " + duration);
+            }
+            if (rampUp.isNegative() || rampUp.compareTo(duration) > 0) {
+                throw new IllegalArgumentException("Ramp-up must be between zero and the duration: " + rampUp);
+            }
+            if (warmUp.isNegative()) {
+                throw new IllegalArgumentException("Warm-up must not be negative: " + warmUp);
+            }
+            return new LoadProfile(this);
+        }
+
+        private static PlayerOperation operation(final String name) {
+            String normalized = name.replace("_", "").toUpperCase(Locale.ROOT);
+            for (PlayerOperation operation : PlayerOperation.values()) {
+                if (operation.name().replace("_", "").equals(normalized)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation in workload mix: " + name);
+        }
+    }
+}
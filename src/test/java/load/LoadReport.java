@@ -0,0 +1,160 @@
+package load;
+
+import api.client.JsonSupport;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Result of a {@link PlayerLoadRunner} run: latency percentiles, outcomes and error rates per endpoint.
+ */
+public final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private final LoadProfile profile;
+    private final Duration elapsed;
+    private final Map<PlayerOperation, EndpointStats> endpoints;
+
+    LoadReport(final LoadProfile profile, final Duration elapsed, final Map<PlayerOperation, EndpointStats> endpoints) {
+        this.profile = profile;
+        this.elapsed = elapsed;
+        this.endpoints = Collections.unmodifiableMap(new EnumMap<>(endpoints));
+    }
+
+    public LoadProfile getProfile() {
+        return profile;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public Map<PlayerOperation, EndpointStats> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Gets the statistics of one operation.
+     *
+     * @param operation the operation
+     * @return the statistics, empty if the operation was never executed
+     */
+    public EndpointStats getEndpoint(final PlayerOperation operation) {
+        EndpointStats stats = endpoints.get(operation);
+        return stats != null ? stats : new EndpointStats();
+    }
+
+    public long getTotalRequests() {
+        return endpoints.values().stream().mapToLong(EndpointStats::getCount).sum();
+    }
+
+    public long getTotalErrors() {
+        return endpoints.values().stream().mapToLong(EndpointStats::getErrors).sum();
+    }
+
+    public double getErrorRate() {
+        long total = getTotalRequests();
+        return total == 0 ? 0 : (double) getTotalErrors() / total;
+    }
+
+    /**
+     * Gets the achieved request rate over the whole run.
+     *
+     * @return requests per second
+     */
+    public double getThroughput() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : getTotalRequests() * 1_000_000_000.0 / nanos;
+    }
+
+    /**
+     * Renders the report as JSON.
+     *
+     * @return the JSON document
+     */
+    public String toJson() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("profile", profile.toString());
+        report.put("elapsedSeconds", elapsed.toMillis() / 1000.0);
+        report.put("totalRequests", getTotalRequests());
+        report.put("totalErrors", getTotalErrors());
+        report.put("errorRate", getErrorRate());
+        report.put("throughputPerSecond", getThroughput());
+
+        Map<String, Object> endpointReports = new LinkedHashMap<>();
+        endpoints.forEach((operation, stats) -> {
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("count", stats.getCount());
+            endpoint.put("errors", stats.getErrors());
+            endpoint.put("errorRate", stats.getErrorRate());
+            endpoint.put("outcomes", stats.getOutcomes());
+            Map<String, Object> latency = new LinkedHashMap<>();
+            latency.put("mean", stats.getMeanLatencyMillis());
+            for (double percentile : PERCENTILES) {
+                latency.put("p" + formatPercentile(percentile), stats.getLatencyMillis(percentile));
+            }
+            latency.put("max", stats.getMaxLatencyMillis());
+            endpoint.put("latencyMillis", latency);
+            endpointReports.put(operation.getEndpoint(), endpoint);
+        });
+        report.put("endpoints", endpointReports);
+
+        try {
+            return JsonSupport.writer().withDefaultPrettyPrinter().writeValueAsString(report);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to render load report", e);
+        }
+    }
+
+    /**
+     * Writes the JSON report to a file, creating parent directories as needed.
+     *
+     * @param file the target file
+     */
+    public void writeJson(final Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(file, toJson());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write load report to " + file, e);
+        }
+    }
+
+    /**
+     * Renders a human-readable summary table.
+     *
+     * @return the summary
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder(512)
+                .append(String.format(Locale.ROOT, "%d requests in %.1f s (%.1f req/s), error rate %.2f%%",
+                        getTotalRequests(), elapsed.toMillis() / 1000.0, getThroughput(), getErrorRate() * 100))
+                .append(System.lineSeparator())
+                .append(String.format(Locale.ROOT, "%-36s %8s %8s %9s %9s %9s %9s %9s",
+                        "endpoint", "count", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        endpoints.forEach((operation, stats) -> summary.append(System.lineSeparator())
+                .append(String.format(Locale.ROOT, "%-36s %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f",
+                        operation.getEndpoint(), stats.getCount(), stats.getErrors(),
+                        stats.getLatencyMillis(50), stats.getLatencyMillis(90), stats.getLatencyMillis(99),
+                        stats.getLatencyMillis(99.9), stats.getMaxLatencyMillis())));
+        return summary.toString();
+    }
+
+    private static String formatPercentile(final double percentile) {
+        return percentile == Math.rint(percentile)
+                ? String.valueOf((long) percentile)
+                : String.valueOf(percentile).replace('.', '_');
+    }
+}
@@ -0,0 +1,386 @@
+package load;
+
+import api.client.AllureAttachmentMode;
+import api.client.Configuration;
+import api.client.LogPolicy;
+import api.client.ResponseWrapper;
+import api.model.request.Player;
+import api.model.response.PlayerResponse;
+import api.requests.PlayerApiClient;
+import api.stub.PlayerStubServer;
+import common.PropertiesReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import util.IdentityGenerator;
+import util.PlayerCleanupRegistry;
+import util.PlayerFactory;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static common.Properties.BASE_URL;
+import static common.Properties.LOAD_REPORT_FILE;
+
+/**
+ * Drives a {@link LoadProfile} against the Player API through {@link PlayerApiClient}, using
+ * one {@link PlayerFactory} per worker for payloads, so generating them costs little next to the requests.
+ * <p>
+ * Without a target rate every worker issues requests back to back (closed loop). With a target rate
+ * the workers share one schedule of request slots and latency is measured from the scheduled slot,
+ * so a service that falls behind shows up as queueing time instead of being hidden by coordinated
+ * omission. During ramp-up both the number of active workers and the target rate grow linearly.
+ * Players created during the run and not deleted by the workload are deleted once it ends.
+ */
+public final class PlayerLoadRunner {
+
+    private static final Logger LOGGER = LogManager.getLogger(PlayerLoadRunner.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final PlayerApiClient client;
+    private final LongAdder playersCreated = new LongAdder();
+    private final LongAdder playersDeleted = new LongAdder();
+
+    /**
+     * Creates a runner for the given client.
+     *
+     * @param client the client requests are sent through
+     */
+    public PlayerLoadRunner(final PlayerApiClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Runs the profile to completion.
+     *
+     * @param profile the workload profile
+     * @return the report
+     */
+    public LoadReport run(final LoadProfile profile) {
+        LOGGER.info("Starting load run: {}", profile);
+        ConcurrentLinkedDeque<Integer> players = new ConcurrentLinkedDeque<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(profile.getConcurrency(), workerThreads());
+        try {
+            if (!profile.getWarmUp().isZero()) {
+                LOGGER.info("Warming up for {}", profile.getWarmUp());
+                execute(executor, new Run(profile, players, false));
+            }
+
+            Run run = new Run(profile, players, true);
+            EndpointStats[] totals = execute(executor, run);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - run.start);
+
+            cleanUp(executor, profile, players);
+
+            Map<PlayerOperation, EndpointStats> endpoints = new EnumMap<>(PlayerOperation.class);
+            for (PlayerOperation operation : PlayerOperation.values()) {
+                if (totals[operation.ordinal()].getCount() > 0) {
+                    endpoints.put(operation, totals[operation.ordinal()]);
+                }
+            }
+            LoadReport report = new LoadReport(profile, elapsed, endpoints);
+            LOGGER.info("Load run finished:{}{}", System.lineSeparator(), report.summary());
+            return report;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs the load profile configured through the {@code load.*} properties against the configured
+     * service and writes the JSON report to {@code load.report.file}. The players the run left on the service
+     * are then swept by its {@link IdentityGenerator} namespace.
+     *
+     * @param args ignored
+     */
+    public static void main(final String[] args) {
+        PlayerApiClient client = createClient();
+        try {
+            LoadReport report = new PlayerLoadRunner(client).run(LoadProfile.fromProperties());
+            Path reportFile = Paths.get(PropertiesReader.getProperty(LOAD_REPORT_FILE, "target/load-report.json"));
+            report.writeJson(reportFile);
+            LOGGER.info("Load report written to {}", reportFile.toAbsolutePath());
+        } finally {
+            sweepAndClose(client);
+        }
+    }
+
+    /**
+     * Deletes the players a standalone run created in its namespace, then closes the shared stub if it was started.
+     *
+     * @param client the client of the run
+     */
+    static void sweepAndClose(final PlayerApiClient client) {
+        try {
+            PlayerCleanupRegistry.getInstance().sweepNamespace(IdentityGenerator.getInstance().getNamespace(), client);
+        } finally {
+            PlayerStubServer.closeShared();
+        }
+    }
+
+    /**
+     * Creates the client of a standalone run against the configured service. Outside of a test run there is no
+     * Allure test to attach exchanges to and nobody reads a per-request log, so both are turned off,
+     * as in the benchmarks.
+     *
+     * @return the client
+     */
+    static PlayerApiClient createClient() {
+        return PlayerApiClient.shared(Configuration.builder()
+                .servicePath(PlayerStubServer.resolveBaseUrl(PropertiesReader.getProperty(BASE_URL)))
+                .contentType("application/json")
+                .logPolicy(LogPolicy.NONE)
+                .allureAttachmentMode(AllureAttachmentMode.OFF)
+                .build());
+    }
+
+    /**
+     * Gets the number of players this runner created so far, over all of its runs.
+     *
+     * @return the number of successful creations
+     */
+    public long getPlayersCreated() {
+        return playersCreated.sum();
+    }
+
+    /**
+     * Gets the number of players this runner deleted so far, over all of its runs and including the cleanup after them.
+     *
+     * @return the number of successful deletions
+     */
+    public long getPlayersDeleted() {
+        return playersDeleted.sum();
+    }
+
+    private void cleanUp(final ExecutorService executor, final LoadProfile profile,
+                         final ConcurrentLinkedDeque<Integer> players) {
+        if (players.isEmpty()) {
+            return;
+        }
+        LOGGER.info("Deleting {} players left over by the load run", players.size());
+        List<Future<?>> cleaners = new ArrayList<>(profile.getConcurrency());
+        for (int i = 0; i < profile.getConcurrency(); i++) {
+            cleaners.add(executor.submit(() -> {
+                Integer playerId;
+                while ((playerId = players.pollFirst()) != null) {
+                    int statusCode = client.deletePlayer(profile.getEditor(), playerId).getStatusCode();
+                    if (statusCode == 200) {
+                        playersDeleted.increment();
+                    } else if (statusCode != 404) {
+                        LOGGER.warn("Failed to delete player {} after load run, status code {}", playerId, statusCode);
+                    }
+                }
+            }));
+        }
+        cleaners.forEach(PlayerLoadRunner::await);
+    }
+
+    private static EndpointStats[] execute(final ExecutorService executor, final Run run) {
+        List<Future<EndpointStats[]>> workers = new ArrayList<>(run.profile.getConcurrency());
+        for (int i = 0; i < run.profile.getConcurrency(); i++) {
+            int workerIndex = i;
+            workers.add(executor.submit(() -> run.work(workerIndex)));
+        }
+
+        EndpointStats[] totals = newStats();
+        for (Future<EndpointStats[]> worker : workers) {
+            EndpointStats[] stats = await(worker);
+            for (int i = 0; i < totals.length; i++) {
+                totals[i].add(stats[i]);
+            }
+        }
+        return totals;
+    }
+
+    private static EndpointStats[] newStats() {
+        EndpointStats[] stats = new EndpointStats[PlayerOperation.values().length];
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = new EndpointStats();
+        }
+        return stats;
+    }
+
+    private static <T> T await(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for load workers", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load worker failed", e.getCause());
+        }
+    }
+
+    private static ThreadFactory workerThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "load-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * State shared by the workers of one phase of a run. The warm-up phase runs closed-loop at full
+     * concurrency, the measured phase applies ramp-up and the target rate.
+     */
+    private final class Run {
+
+        private final LoadProfile profile;
+        private final ConcurrentLinkedDeque<Integer> players;
+        private final long start;
+        private final long end;
+        private final long rampUpNanos;
+        private final double targetRps;
+        private final AtomicLong nextSlot;
+        private final PlayerFactory[] playerFactories;
+
+        private Run(final LoadProfile profile, final ConcurrentLinkedDeque<Integer> players, final boolean measured) {
+            this.profile = profile;
+            this.players = players;
+            this.start = System.nanoTime();
+            this.end = start + (measured ? profile.getDuration() : profile.getWarmUp()).toNanos();
+            this.rampUpNanos = measured ? profile.getRampUp().toNanos() : 0;
+            this.targetRps = measured ? profile.getTargetRps() : 0;
+            this.nextSlot = new AtomicLong(start);
+            this.playerFactories = new PlayerFactory[profile.getConcurrency()];
+            PlayerFactory root = PlayerFactory.seeded(ThreadLocalRandom.current().nextLong());
+            for (int i = 0; i < playerFactories.length; i++) {
+                playerFactories[i] = root.split();
+            }
+        }
+
+        private EndpointStats[] work(final int workerIndex) {
+            EndpointStats[] stats = newStats();
+            PlayerFactory playerFactory = playerFactories[workerIndex];
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long now;
+            while ((now = System.nanoTime()) < end && !Thread.currentThread().isInterrupted()) {
+                if (workerIndex >= activeWorkers(now)) {
+                    LockSupport.parkNanos(Math.min(IDLE_PARK_NANOS, end - now));
+                    continue;
+                }
+                long scheduled = targetRps > 0 ? awaitSlot(now) : now;
+                if (scheduled >= end) {
+                    break;
+                }
+                execute(profile.pick(random.nextInt(profile.getTotalWeight())), scheduled, stats, playerFactory);
+            }
+            return stats;
+        }
+
+        private int activeWorkers(final long now) {
+            return (int) Math.ceil(profile.getConcurrency() * rampFraction(now));
+        }
+
+        private double rampFraction(final long now) {
+            if (rampUpNanos == 0 || now - start >= rampUpNanos) {
+                return 1;
+            }
+            return Math.max((double) (now - start) / rampUpNanos, 1.0 / profile.getConcurrency());
+        }
+
+        /**
+         * Claims the next request slot of the shared schedule and waits for it.
+         * Slots missed because the service is slow are not skipped, they are issued immediately.
+         */
+        private long awaitSlot(final long now) {
+            long interval = (long) (TimeUnit.SECONDS.toNanos(1) / (targetRps * rampFraction(now)));
+            long slot = nextSlot.getAndAdd(Math.max(1, interval));
+            long wait;
+            while (slot < end && (wait = slot - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            return slot;
+        }
+
+        private void execute(final PlayerOperation requested, final long scheduled, final EndpointStats[] stats,
+                             final PlayerFactory playerFactory) {
+            PlayerOperation operation = requested;
+            Integer playerId = null;
+            if (operation.requiresPlayer()) {
+                playerId = players.pollFirst();
+                if (playerId == null) {
+                    operation = PlayerOperation.CREATE;
+                }
+            }
+
+            EndpointStats endpoint = stats[operation.ordinal()];
+            try {
+                switch (operation) {
+                    case CREATE:
+                        create(endpoint, scheduled, playerFactory);
+                        break;
+                    case GET:
+                        ResponseWrapper player = client.getPlayer(playerId);
+                        endpoint.record(System.nanoTime() - scheduled, player.getStatusCode(), player.getStatusCode() == 200);
+                        players.offerLast(playerId);
+                        break;
+                    case GET_ALL:
+                        ResponseWrapper all = client.getAllPlayers();
+                        endpoint.record(System.nanoTime() - scheduled, all.getStatusCode(), all.getStatusCode() == 200);
+                        break;
+                    case UPDATE:
+                        ResponseWrapper updated = client.updatePlayer(profile.getEditor(), playerId,
+                                updateFor(playerFactory));
+                        endpoint.record(System.nanoTime() - scheduled, updated.getStatusCode(), updated.getStatusCode() == 200);
+                        players.offerLast(playerId);
+                        break;
+                    case DELETE:
+                        int statusCode = client.deletePlayer(profile.getEditor(), playerId).getStatusCode();
+                        endpoint.record(System.nanoTime() - scheduled, statusCode, statusCode == 200);
+                        if (statusCode == 200) {
+                            playersDeleted.increment();
+                        } else if (statusCode != 404) {
+                            players.offerLast(playerId);
+                        }
+                        break;
+                    default:
+                        throw new IllegalStateException("Unsupported operation: " + operation);
+                }
+            } catch (RuntimeException e) {
+                LOGGER.debug("{} failed without a response", operation.getEndpoint(), e);
+                endpoint.recordTransportError(System.nanoTime() - scheduled);
+                if (playerId != null && operation != PlayerOperation.DELETE) {
+                    players.offerLast(playerId);
+                }
+            }
+        }
+
+        private void create(final EndpointStats endpoint, final long scheduled, final PlayerFactory playerFactory) {
+            ResponseWrapper response = client.createPlayer(profile.getEditor(), playerFactory.validPlayer());
+            long latency = System.nanoTime() - scheduled;
+            boolean created = response.getStatusCode() == 200;
+            endpoint.record(latency, response.getStatusCode(), created);
+            if (created) {
+                playersCreated.increment();
+                players.offerLast(response.readEntity(PlayerResponse.class).getPlayerId());
+            }
+        }
+
+        private Player updateFor(final PlayerFactory playerFactory) {
+            Player generated = playerFactory.validPlayer();
+            Player update = new Player();
+            update.setAge(generated.getAge());
+            update.setScreenName(generated.getScreenName());
+            return update;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package load;
+
+import api.client.AllureAttachmentMode;
+import api.client.Configuration;
+import api.client.LogPolicy;
+import api.requests.PlayerApiClient;
+import api.stub.PlayerStubServer;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test suite for the load runner, executed against the in-process player stub server.
+ */
+@Epic("Framework")
+@Feature("Load Generation")
+public final class PlayerLoadRunnerTest {
+
+    private PlayerStubServer stubServer;
+    private PlayerLoadRunner loadRunner;
+
+    @BeforeClass
+    public void setUp() {
+        stubServer = PlayerStubServer.start();
+        loadRunner = new PlayerLoadRunner(PlayerApiClient.shared(Configuration.builder()
+                .servicePath(stubServer.getBaseUrl())
+                .contentType("application/json")
+                .logPolicy(LogPolicy.NONE)
+                .allureAttachmentMode(AllureAttachmentMode.OFF)
+                .build()));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        if (stubServer != null) {
+            stubServer.close();
+        }
+    }
+
+    @Test(description = "Closed-loop run exercises every endpoint of the mix")
+    @Description("Verify that a closed-loop run records latencies for every operation without errors and cleans up its players")
+    public void testClosedLoopRunCoversMix() {
+        LoadReport report = loadRunner.run(LoadProfile.builder()
+                .mix("create=2,get=3,getAll=1,update=2,delete=1")
+                .concurrency(4)
+                .duration(Duration.ofSeconds(2))
+                .rampUp(Duration.ofMillis(500))
+                .warmUp(Duration.ofSeconds(2))
+                .build());
+
+        for (PlayerOperation operation : PlayerOperation.values()) {
+            EndpointStats stats = report.getEndpoint(operation);
+            assertTrue(stats.getCount() > 0, operation + " should have been executed");
+            assertTrue(stats.getLatencyMillis(99) >= stats.getLatencyMillis(50),
+                    operation + " p99 should not be below p50");
+        }
+        assertEquals(report.getTotalErrors(), 0L, "Run against the stub should not produce errors");
+        assertTrue(report.toJson().contains("\"POST /player/get\""), "JSON report should be keyed by endpoint");
+        assertEquals(stubServer.getPlayerCount(), 0, "Players created by the run should be deleted afterwards");
+    }
+
+    @Test(description = "Open-loop run is paced to the target rate")
+    @Description("Verify that a run with a target rate does not exceed the rate, including during ramp-up")
+    public void testTargetRateIsHonoured() {
+        LoadReport report = loadRunner.run(LoadProfile.builder()
+                .weight(PlayerOperation.GET_ALL, 1)
+                .concurrency(4)
+                .targetRps(50)
+                .duration(Duration.ofSeconds(2))
+                .rampUp(Duration.ofSeconds(1))
+                .warmUp(Duration.ofSeconds(1))
+                .build());
+
+        long requests = report.getTotalRequests();
+        assertTrue(requests > 30 && requests <= 100, "Expected a paced request count but got " + requests);
+        assertEquals(report.getErrorRate(), 0.0, "Run against the stub should not produce errors");
+    }
+
+    @Test(description = "Workload mix is parsed from its specification",
+            expectedExceptions = IllegalArgumentException.class)
+    @Description("Verify that unknown operations in a mix specification are rejected")
+    public void testUnknownOperationIsRejected() {
+        LoadProfile.builder().mix("create=1,purge=1");
+    }
+}
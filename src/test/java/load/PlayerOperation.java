@@ -0,0 +1,37 @@
+package load;
+
+/**
+ * Player API operations that can be part of a load workload mix.
+ */
+public enum PlayerOperation {
+
+    CREATE("POST /player/create"),
+    GET("POST /player/get"),
+    GET_ALL("GET /player/getAll"),
+    UPDATE("PATCH /player/update/{editor}/{id}"),
+    DELETE("DELETE /player/delete/{editor}/{id}");
+
+    private final String endpoint;
+
+    PlayerOperation(final String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Gets the method and path template of the endpoint the operation calls.
+     *
+     * @return the endpoint, e.g. {@code POST /player/get}
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Checks whether the operation needs an existing player.
+     *
+     * @return true for operations addressing a single existing player
+     */
+    public boolean requiresPlayer() {
+        return this == GET || this == UPDATE || this == DELETE;
+    }
+}
@@ -0,0 +1,256 @@
+package load;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Client-side resource usage at one point of a {@link SoakRunner} run.
+ * Values that cannot be measured on the running platform are -1.
+ */
+public final class ResourceSample {
+
+    private final double elapsedSeconds;
+    private final long heapUsedBytes;
+    private final long heapCommittedBytes;
+    private final long heapAfterGcBytes;
+    private final long gcCount;
+    private final long gcTimeMillis;
+    private final int threads;
+    private final long openFileDescriptors;
+    private final int liveConnections;
+    private final long allureResultFiles;
+    private final long allureResultBytes;
+    private final long playersCreated;
+    private final long playersDeleted;
+
+    private ResourceSample(final Builder builder) {
+        this.elapsedSeconds = builder.elapsedSeconds;
+        this.heapUsedBytes = builder.heapUsedBytes;
+        this.heapCommittedBytes = builder.heapCommittedBytes;
+        this.heapAfterGcBytes = builder.heapAfterGcBytes;
+        this.gcCount = builder.gcCount;
+        this.gcTimeMillis = builder.gcTimeMillis;
+        this.threads = builder.threads;
+        this.openFileDescriptors = builder.openFileDescriptors;
+        this.liveConnections = builder.liveConnections;
+        this.allureResultFiles = builder.allureResultFiles;
+        this.allureResultBytes = builder.allureResultBytes;
+        this.playersCreated = builder.playersCreated;
+        this.playersDeleted = builder.playersDeleted;
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedSeconds;
+    }
+
+    public long getHeapUsedBytes() {
+        return heapUsedBytes;
+    }
+
+    public long getHeapCommittedBytes() {
+        return heapCommittedBytes;
+    }
+
+    /**
+     * Gets the heap still in use after the last collection of each pool, which, unlike the used heap, does not
+     * include garbage and so grows only if objects such as held responses leak.
+     *
+     * @return the bytes, or -1 if the collectors do not report it
+     */
+    public long getHeapAfterGcBytes() {
+        return heapAfterGcBytes;
+    }
+
+    /**
+     * Gets the number of collections since the previous sample.
+     *
+     * @return the collection count
+     */
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * Gets the time spent collecting since the previous sample. For stop-the-world collectors this is the pause time;
+     * collectors that also work concurrently may report part of that work.
+     *
+     * @return the collection time in milliseconds
+     */
+    public long getGcTimeMillis() {
+        return gcTimeMillis;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public long getOpenFileDescriptors() {
+        return openFileDescriptors;
+    }
+
+    /**
+     * Gets the number of established TCP connections to the service port.
+     *
+     * @return the connection count, or -1 if it cannot be read
+     */
+    public int getLiveConnections() {
+        return liveConnections;
+    }
+
+    public long getAllureResultFiles() {
+        return allureResultFiles;
+    }
+
+    public long getAllureResultBytes() {
+        return allureResultBytes;
+    }
+
+    public long getPlayersCreated() {
+        return playersCreated;
+    }
+
+    public long getPlayersDeleted() {
+        return playersDeleted;
+    }
+
+    /**
+     * Gets the number of players created and not yet deleted.
+     *
+     * @return the live player count
+     */
+    public long getLivePlayers() {
+        return playersCreated - playersDeleted;
+    }
+
+    /**
+     * Gets the sample as an ordered map, for the JSON report.
+     *
+     * @return the values by name
+     */
+    Map<String, Object> toMap() {
+        Map<String, Object> sample = new LinkedHashMap<>();
+        sample.put("elapsedSeconds", elapsedSeconds);
+        sample.put("heapUsedBytes", heapUsedBytes);
+        sample.put("heapCommittedBytes", heapCommittedBytes);
+        sample.put("heapAfterGcBytes", heapAfterGcBytes);
+        sample.put("gcCount", gcCount);
+        sample.put("gcTimeMillis", gcTimeMillis);
+        sample.put("threads", threads);
+        sample.put("openFileDescriptors", openFileDescriptors);
+        sample.put("liveConnections", liveConnections);
+        sample.put("allureResultFiles", allureResultFiles);
+        sample.put("allureResultBytes", allureResultBytes);
+        sample.put("playersCreated", playersCreated);
+        sample.put("playersDeleted", playersDeleted);
+        return sample;
+    }
+
+    @Override
+    public String toString() {
+        return "ResourceSample{" +
+                "elapsedSeconds=" + elapsedSeconds +
+                ", heapUsedBytes=" + heapUsedBytes +
+                ", heapAfterGcBytes=" + heapAfterGcBytes +
+                ", gcCount=" + gcCount +
+                ", gcTimeMillis=" + gcTimeMillis +
+                ", threads=" + threads +
+                ", openFileDescriptors=" + openFileDescriptors +
+                ", liveConnections=" + liveConnections +
+                ", allureResultFiles=" + allureResultFiles +
+                ", playersCreated=" + playersCreated +
+                ", playersDeleted=" + playersDeleted +
+                '}';
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder class for ResourceSample.
+     */
+    static final class Builder {
+        private double elapsedSeconds;
+        private long heapUsedBytes;
+        private long heapCommittedBytes;
+        private long heapAfterGcBytes = -1;
+        private long gcCount;
+        private long gcTimeMillis;
+        private int threads;
+        private long openFileDescriptors = -1;
+        private int liveConnections = -1;
+        private long allureResultFiles;
+        private long allureResultBytes;
+        private long playersCreated;
+        private long playersDeleted;
+
+        Builder elapsedSeconds(final double elapsedSeconds) {
+            this.elapsedSeconds = elapsedSeconds;
+            return this;
+        }
+
+        Builder heapUsedBytes(final long heapUsedBytes) {
+            this.heapUsedBytes = heapUsedBytes;
+            return this;
+        }
+
+        Builder heapCommittedBytes(final long heapCommittedBytes) {
+            this.heapCommittedBytes = heapCommittedBytes;
+            return this;
+        }
+
+        Builder heapAfterGcBytes(final long heapAfterGcBytes) {
+            this.heapAfterGcBytes = heapAfterGcBytes;
+            return this;
+        }
+
+        Builder gcCount(final long gcCount) {
+            this.gcCount = gcCount;
+            return this;
+        }
+
+        Builder gcTimeMillis(final long gcTimeMillis) {
+            this.gcTimeMillis = gcTimeMillis;
+            return this;
+        }
+
+        Builder threads(final int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        Builder openFileDescriptors(final long openFileDescriptors) {
+            this.openFileDescriptors = openFileDescriptors;
+            return this;
+        }
+
+        Builder liveConnections(final int liveConnections) {
+            this.liveConnections = liveConnections;
+            return this;
+        }
+
+        Builder allureResultFiles(final long allureResultFiles) {
+            this.allureResultFiles = allureResultFiles;
+            return this;
+        }
+
+        Builder allureResultBytes(final long allureResultBytes) {
+            this.allureResultBytes = allureResultBytes;
+            return this;
+        }
+
+        Builder playersCreated(final long playersCreated) {
+            this.playersCreated = playersCreated;
+            return this;
+        }
+
+        Builder playersDeleted(final long playersDeleted) {
+            this.playersDeleted = playersDeleted;
+            return this;
+        }
+
+        ResourceSample build() {
+            return new ResourceSample(this);
+        }
+    }
+}
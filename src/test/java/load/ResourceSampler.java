@@ -0,0 +1,184 @@
+package load;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Samples the resource usage of this JVM through the platform MXBeans for {@link SoakRunner}.
+ * <p>
+ * Heap, collections and threads come from JMX on every JVM and open file descriptors on Unix JVMs. The JVM has no
+ * MXBean for sockets, so live connections are counted from {@code /proc/net/tcp} and {@code /proc/net/tcp6} on Linux:
+ * established connections whose remote port is the service port. That count covers every process of the network
+ * namespace, which on a test runner or container is the client.
+ */
+final class ResourceSampler {
+
+    private static final Logger LOGGER = LogManager.getLogger(ResourceSampler.class);
+    private static final Path[] TCP_TABLES = {Paths.get("/proc/net/tcp"), Paths.get("/proc/net/tcp6")};
+    private static final String ESTABLISHED = "01";
+
+    private final long start = System.nanoTime();
+    private final int servicePort;
+    private final Path allureResults;
+    private final LongSupplier playersCreated;
+    private final LongSupplier playersDeleted;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final List<MemoryPoolMXBean> memoryPools = ManagementFactory.getMemoryPoolMXBeans();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+    private long lastGcCount;
+    private long lastGcTimeMillis;
+    private boolean connectionsUnavailable;
+
+    /**
+     * Creates a sampler.
+     *
+     * @param servicePort the port of the service connections are counted to, or -1 not to count them
+     * @param allureResults the Allure results directory whose growth is tracked
+     * @param playersCreated the number of players created so far
+     * @param playersDeleted the number of players deleted so far
+     */
+    ResourceSampler(final int servicePort, final Path allureResults, final LongSupplier playersCreated,
+                    final LongSupplier playersDeleted) {
+        this.servicePort = servicePort;
+        this.allureResults = allureResults;
+        this.playersCreated = playersCreated;
+        this.playersDeleted = playersDeleted;
+        this.lastGcCount = totalGcCount();
+        this.lastGcTimeMillis = totalGcTimeMillis();
+    }
+
+    /**
+     * Takes a sample. Collection counts and times are those since the previous sample.
+     *
+     * @return the sample
+     */
+    synchronized ResourceSample sample() {
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        long gcCount = totalGcCount();
+        long gcTimeMillis = totalGcTimeMillis();
+        long[] allure = allureResultSize();
+        ResourceSample sample = ResourceSample.builder()
+                .elapsedSeconds((System.nanoTime() - start) / 1_000_000_000.0)
+                .heapUsedBytes(heap.getUsed())
+                .heapCommittedBytes(heap.getCommitted())
+                .heapAfterGcBytes(heapAfterGc())
+                .gcCount(gcCount - lastGcCount)
+                .gcTimeMillis(gcTimeMillis - lastGcTimeMillis)
+                .threads(threads.getThreadCount())
+                .openFileDescriptors(openFileDescriptors())
+                .liveConnections(liveConnections())
+                .allureResultFiles(allure[0])
+                .allureResultBytes(allure[1])
+                .playersCreated(playersCreated.getAsLong())
+                .playersDeleted(playersDeleted.getAsLong())
+                .build();
+        lastGcCount = gcCount;
+        lastGcTimeMillis = gcTimeMillis;
+        return sample;
+    }
+
+    private long heapAfterGc() {
+        long used = 0;
+        boolean reported = false;
+        for (MemoryPoolMXBean pool : memoryPools) {
+            MemoryUsage usage = pool.getType() == MemoryType.HEAP && pool.isValid() ? pool.getCollectionUsage() : null;
+            if (usage != null) {
+                used += usage.getUsed();
+                reported = true;
+            }
+        }
+        return reported ? used : -1;
+    }
+
+    private long totalGcCount() {
+        return collectors.stream().mapToLong(collector -> Math.max(0, collector.getCollectionCount())).sum();
+    }
+
+    private long totalGcTimeMillis() {
+        return collectors.stream().mapToLong(collector -> Math.max(0, collector.getCollectionTime())).sum();
+    }
+
+    private long openFileDescriptors() {
+        if (operatingSystem instanceof com.sun.management.UnixOperatingSystemMXBean) {
+            return ((com.sun.management.UnixOperatingSystemMXBean) operatingSystem).getOpenFileDescriptorCount();
+        }
+        return -1;
+    }
+
+    private int liveConnections() {
+        if (servicePort < 0 || connectionsUnavailable) {
+            return -1;
+        }
+        String port = String.format(Locale.ROOT, ":%04X", servicePort);
+        int connections = 0;
+        boolean read = false;
+        for (Path table : TCP_TABLES) {
+            if (!Files.isReadable(table)) {
+                continue;
+            }
+            try (BufferedReader reader = Files.newBufferedReader(table)) {
+                // Columns: sl local_address rem_address st ..., addresses as hex IP:PORT
+                reader.readLine();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] columns = line.trim().split("\\s+");
+                    if (columns.length > 3 && columns[2].endsWith(port) && ESTABLISHED.equals(columns[3])) {
+                        connections++;
+                    }
+                }
+                read = true;
+            } catch (IOException e) {
+                LOGGER.debug("Could not read {}", table, e);
+            }
+        }
+        if (!read) {
+            LOGGER.info("Live connections are not sampled: no readable TCP table under /proc/net");
+            connectionsUnavailable = true;
+            return -1;
+        }
+        return connections;
+    }
+
+    /**
+     * Gets the number and total size of the files directly in the Allure results directory.
+     */
+    private long[] allureResultSize() {
+        long[] size = new long[2];
+        if (!Files.isDirectory(allureResults)) {
+            return size;
+        }
+        try (Stream<Path> files = Files.list(allureResults)) {
+            files.forEach(file -> {
+                try {
+                    size[1] += Files.size(file);
+                    size[0]++;
+                } catch (IOException e) {
+                    // The file was removed between listing and sizing it
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.debug("Could not list {}", allureResults, e);
+        }
+        return size;
+    }
+}
@@ -0,0 +1,161 @@
+package load;
+
+import api.client.JsonSupport;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Result of a {@link SoakRunner} run: the {@link LoadReport} of the workload and the resource samples taken during it.
+ * <p>
+ * For every tracked resource the report gives the first, last and highest value and the least-squares slope per hour.
+ * A client and service that stay flat under sustained load show slopes close to zero for the heap after collection,
+ * threads, file descriptors, connections and live players; Allure result files grow with the number of requests.
+ */
+public final class SoakReport {
+
+    private static final Map<String, ToDoubleFunction<ResourceSample>> TRENDS = trends();
+
+    private final LoadReport load;
+    private final List<ResourceSample> samples;
+
+    SoakReport(final LoadReport load, final List<ResourceSample> samples) {
+        this.load = load;
+        this.samples = Collections.unmodifiableList(new ArrayList<>(samples));
+    }
+
+    private static Map<String, ToDoubleFunction<ResourceSample>> trends() {
+        Map<String, ToDoubleFunction<ResourceSample>> trends = new LinkedHashMap<>();
+        trends.put("heapUsedBytes", ResourceSample::getHeapUsedBytes);
+        trends.put("heapAfterGcBytes", ResourceSample::getHeapAfterGcBytes);
+        trends.put("threads", ResourceSample::getThreads);
+        trends.put("openFileDescriptors", ResourceSample::getOpenFileDescriptors);
+        trends.put("liveConnections", ResourceSample::getLiveConnections);
+        trends.put("allureResultFiles", ResourceSample::getAllureResultFiles);
+        trends.put("livePlayers", ResourceSample::getLivePlayers);
+        return Collections.unmodifiableMap(trends);
+    }
+
+    public LoadReport getLoad() {
+        return load;
+    }
+
+    public List<ResourceSample> getSamples() {
+        return samples;
+    }
+
+    /**
+     * Gets the least-squares slope of a resource over the run.
+     *
+     * @param resource the resource, e.g. {@code heapAfterGcBytes} or {@code threads}
+     * @return the change per hour, 0 with fewer than two samples
+     */
+    public double getSlopePerHour(final String resource) {
+        ToDoubleFunction<ResourceSample> value = TRENDS.get(resource);
+        if (value == null) {
+            throw new IllegalArgumentException("Unknown resource: " + resource);
+        }
+        int n = samples.size();
+        if (n < 2) {
+            return 0;
+        }
+        double meanTime = 0;
+        double meanValue = 0;
+        for (ResourceSample sample : samples) {
+            meanTime += sample.getElapsedSeconds() / n;
+            meanValue += value.applyAsDouble(sample) / n;
+        }
+        double covariance = 0;
+        double variance = 0;
+        for (ResourceSample sample : samples) {
+            double time = sample.getElapsedSeconds() - meanTime;
+            covariance += time * (value.applyAsDouble(sample) - meanValue);
+            variance += time * time;
+        }
+        return variance == 0 ? 0 : covariance / variance * 3600;
+    }
+
+    /**
+     * Renders the report as JSON, with the samples as a time series.
+     *
+     * @return the JSON document
+     */
+    public String toJson() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        try {
+            report.put("load", JsonSupport.objectMapper().readTree(load.toJson()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to render soak report", e);
+        }
+        Map<String, Object> trendReports = new LinkedHashMap<>();
+        if (!samples.isEmpty()) {
+            TRENDS.forEach((resource, value) -> {
+                Map<String, Object> trend = new LinkedHashMap<>();
+                trend.put("first", value.applyAsDouble(samples.get(0)));
+                trend.put("last", value.applyAsDouble(samples.get(samples.size() - 1)));
+                trend.put("max", samples.stream().mapToDouble(value).max().orElse(0));
+                trend.put("slopePerHour", getSlopePerHour(resource));
+                trendReports.put(resource, trend);
+            });
+        }
+        report.put("trends", trendReports);
+        report.put("totalGcTimeMillis", samples.stream().mapToLong(ResourceSample::getGcTimeMillis).sum());
+        List<Map<String, Object>> series = new ArrayList<>(samples.size());
+        samples.forEach(sample -> series.add(sample.toMap()));
+        report.put("samples", series);
+
+        try {
+            return JsonSupport.writer().withDefaultPrettyPrinter().writeValueAsString(report);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to render soak report", e);
+        }
+    }
+
+    /**
+     * Writes the JSON report to a file, creating parent directories as needed.
+     *
+     * @param file the target file
+     */
+    public void writeJson(final Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(file, toJson());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write soak report to " + file, e);
+        }
+    }
+
+    /**
+     * Renders a human-readable summary of the resource trends.
+     *
+     * @return the summary
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder(512)
+                .append(String.format(Locale.ROOT, "%d samples over %.1f s",
+                        samples.size(), samples.isEmpty() ? 0 : samples.get(samples.size() - 1).getElapsedSeconds()))
+                .append(System.lineSeparator())
+                .append(String.format(Locale.ROOT, "%-22s %16s %16s %16s", "resource", "first", "last", "slope/hour"));
+        if (samples.isEmpty()) {
+            return summary.toString();
+        }
+        ResourceSample first = samples.get(0);
+        ResourceSample last = samples.get(samples.size() - 1);
+        TRENDS.forEach((resource, value) -> summary.append(System.lineSeparator())
+                .append(String.format(Locale.ROOT, "%-22s %16.0f %16.0f %16.1f", resource, value.applyAsDouble(first),
+                        value.applyAsDouble(last), getSlopePerHour(resource))));
+        return summary.toString();
+    }
+}
@@ -0,0 +1,156 @@
+package load;
+
+import api.requests.PlayerApiClient;
+import common.PropertiesReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static common.Properties.ALLURE_RESULTS_DIRECTORY;
+import static common.Properties.DEFAULT_SUPERVISOR_LOGIN;
+import static common.Properties.LOAD_CONCURRENCY;
+import static common.Properties.LOAD_MIX;
+import static common.Properties.LOAD_RAMP_UP_SECONDS;
+import static common.Properties.SOAK_DURATION_MINUTES;
+import static common.Properties.SOAK_REPORT_FILE;
+import static common.Properties.SOAK_SAMPLE_INTERVAL_SECONDS;
+import static common.Properties.SOAK_TARGET_RPS;
+
+/**
+ * Runs a fixed-rate workload through {@link PlayerLoadRunner} for a long time while a background thread samples the
+ * client's resource usage, see {@link ResourceSampler}, together with the players created and deleted so far.
+ * The samples end up as a time series in a {@link SoakReport}; a last sample is taken after the run deleted its
+ * players, so a service and client without leaks end with as many deletions as creations.
+ */
+public final class SoakRunner {
+
+    private static final Logger LOGGER = LogManager.getLogger(SoakRunner.class);
+
+    private final PlayerApiClient client;
+    private final PlayerLoadRunner loadRunner;
+    private final Duration sampleInterval;
+    private final Path allureResults;
+
+    /**
+     * Creates a runner for the given client.
+     *
+     * @param client the client requests are sent through
+     * @param sampleInterval the time between two resource samples
+     * @param allureResults the Allure results directory whose growth is tracked
+     */
+    public SoakRunner(final PlayerApiClient client, final Duration sampleInterval, final Path allureResults) {
+        if (sampleInterval.isNegative() || sampleInterval.isZero()) {
+            throw new IllegalArgumentException("Sample interval must be positive: " + sampleInterval);
+        }
+        this.client = client;
+        this.loadRunner = new PlayerLoadRunner(client);
+        this.sampleInterval = sampleInterval;
+        this.allureResults = allureResults;
+    }
+
+    /**
+     * Runs the profile to completion, sampling resources throughout.
+     *
+     * @param profile the workload profile, which should have a target rate so the load stays constant
+     * @return the report
+     */
+    public SoakReport run(final LoadProfile profile) {
+        ResourceSampler sampler = new ResourceSampler(servicePort(), allureResults, loadRunner::getPlayersCreated,
+                loadRunner::getPlayersDeleted);
+        List<ResourceSample> samples = new CopyOnWriteArrayList<>();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "soak-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
+                ResourceSample sample = sampler.sample();
+                samples.add(sample);
+                LOGGER.info("Soak sample: {}", sample);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to sample resources", e);
+            }
+        }, 0, sampleInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        LoadReport load;
+        try {
+            load = loadRunner.run(profile);
+        } finally {
+            scheduler.shutdown();
+            awaitTermination(scheduler);
+        }
+        samples.add(sampler.sample());
+
+        SoakReport report = new SoakReport(load, samples);
+        LOGGER.info("Soak run finished:{}{}", System.lineSeparator(), report.summary());
+        return report;
+    }
+
+    /**
+     * Runs a soak test configured through the {@code soak.*} properties, with the workload mix, concurrency and ramp-up
+     * of the {@code load.*} properties, against the configured service and writes the JSON report to
+     * {@code soak.report.file}. The players the run left on the service are then swept by its namespace.
+     *
+     * @param args ignored
+     */
+    public static void main(final String[] args) {
+        double targetRps = Double.parseDouble(PropertiesReader.getProperty(SOAK_TARGET_RPS, "20"));
+        if (targetRps <= 0) {
+            throw new IllegalArgumentException("A soak test needs a fixed rate, soak.target.rps must be positive: "
+                    + targetRps);
+        }
+        LoadProfile profile = LoadProfile.builder()
+                .mix(PropertiesReader.getProperty(LOAD_MIX, "create=1,get=4,getAll=1,update=2,delete=1"))
+                .concurrency(PropertiesReader.getIntProperty(LOAD_CONCURRENCY, 8))
+                .targetRps(targetRps)
+                .duration(Duration.ofMinutes(PropertiesReader.getIntProperty(SOAK_DURATION_MINUTES, 240)))
+                .rampUp(Duration.ofSeconds(PropertiesReader.getIntProperty(LOAD_RAMP_UP_SECONDS, 5)))
+                .editor(PropertiesReader.getProperty(DEFAULT_SUPERVISOR_LOGIN, "supervisor"))
+                .build();
+        // Allure reads its results directory from the system property only, not from config.properties
+        PlayerApiClient client = PlayerLoadRunner.createClient();
+        SoakRunner runner = new SoakRunner(client,
+                Duration.ofSeconds(PropertiesReader.getIntProperty(SOAK_SAMPLE_INTERVAL_SECONDS, 60)),
+                Paths.get(System.getProperty(ALLURE_RESULTS_DIRECTORY, "allure-results")));
+
+        try {
+            SoakReport report = runner.run(profile);
+            Path reportFile = Paths.get(PropertiesReader.getProperty(SOAK_REPORT_FILE, "target/soak-report.json"));
+            report.writeJson(reportFile);
+            LOGGER.info("Soak report written to {}", reportFile.toAbsolutePath());
+        } finally {
+            PlayerLoadRunner.sweepAndClose(client);
+        }
+    }
+
+    private int servicePort() {
+        URI uri = URI.create(client.getConfiguration().getServicePath());
+        if (uri.getPort() >= 0) {
+            return uri.getPort();
+        }
+        if ("https".equalsIgnoreCase(uri.getScheme())) {
+            return 443;
+        }
+        return "http".equalsIgnoreCase(uri.getScheme()) ? 80 : -1;
+    }
+
+    private static void awaitTermination(final ScheduledExecutorService scheduler) {
+        try {
+            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOGGER.warn("Resource sampler did not stop in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
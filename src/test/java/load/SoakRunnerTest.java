@@ -0,0 +1,77 @@
+package load;
+
+import api.client.AllureAttachmentMode;
+import api.client.Configuration;
+import api.client.LogPolicy;
+import api.requests.PlayerApiClient;
+import api.stub.PlayerStubServer;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test suite for the soak runner, executed against the in-process player stub server.
+ */
+@Epic("Framework")
+@Feature("Load Generation")
+public final class SoakRunnerTest {
+
+    private PlayerStubServer stubServer;
+    private SoakRunner soakRunner;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        stubServer = PlayerStubServer.start();
+        soakRunner = new SoakRunner(PlayerApiClient.shared(Configuration.builder()
+                .servicePath(stubServer.getBaseUrl())
+                .contentType("application/json")
+                .logPolicy(LogPolicy.NONE)
+                .allureAttachmentMode(AllureAttachmentMode.OFF)
+                .build()), Duration.ofMillis(200), Files.createTempDirectory("allure-results"));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        if (stubServer != null) {
+            stubServer.close();
+        }
+    }
+
+    @Test(description = "Soak run samples resources throughout and accounts for every player")
+    @Description("Verify that a short fixed-rate soak run produces a time series of resource samples and deletes every player it created")
+    public void testSoakRunSamplesResources() {
+        SoakReport report = soakRunner.run(LoadProfile.builder()
+                .mix("create=2,get=2,delete=1")
+                .concurrency(2)
+                .targetRps(50)
+                .duration(Duration.ofSeconds(2))
+                .build());
+
+        List<ResourceSample> samples = report.getSamples();
+        assertTrue(samples.size() >= 5, "Expected a sample every 200 ms, got " + samples.size());
+        for (int i = 1; i < samples.size(); i++) {
+            assertTrue(samples.get(i).getElapsedSeconds() >= samples.get(i - 1).getElapsedSeconds(),
+                    "Samples should be in time order");
+        }
+        ResourceSample last = samples.get(samples.size() - 1);
+        assertTrue(last.getHeapUsedBytes() > 0, "Heap usage should be sampled");
+        assertTrue(last.getThreads() > 0, "Thread count should be sampled");
+        assertTrue(last.getPlayersCreated() > 0, "The run should have created players");
+        assertEquals(last.getLivePlayers(), 0L, "Every created player should be deleted by the end");
+        assertEquals(stubServer.getPlayerCount(), 0, "No players should be left on the service");
+
+        String json = report.toJson();
+        assertTrue(json.contains("\"samples\"") && json.contains("\"slopePerHour\""),
+                "JSON report should contain the time series and trends");
+    }
+}
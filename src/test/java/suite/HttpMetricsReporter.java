@@ -0,0 +1,99 @@
+package suite;
+
+import api.client.ClientRegistry;
+import api.client.RequestMetrics;
+import api.client.ResilientCallExecutor;
+import api.requests.PlayerApiClient;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.util.ResultsUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static common.Properties.HTTP_METRICS_REPORT_FILE;
+import static common.PropertiesReader.getProperty;
+
+/**
+ * TestNG listener that reports the HTTP metrics of the suite when it finishes, whichever test classes ran,
+ * and after their {@code @AfterSuite} cleanup, so cleanup requests are included.
+ * <p>
+ * The per-endpoint summary of {@link RequestMetrics} is written to {@code http.metrics.report.file} and logged,
+ * together with the retries and hedges of every shared {@link PlayerApiClient}. Both are also attached to the Allure
+ * report, to a passed result named "HTTP metrics" of their own: no test or fixture is running when a suite listener
+ * fires, so there is nothing else to attach them to.
+ */
+public final class HttpMetricsReporter implements ISuiteListener {
+
+    private static final Logger LOGGER = LogManager.getLogger(HttpMetricsReporter.class);
+    static final String RESULT_NAME = "HTTP metrics";
+
+    @Override
+    public void onFinish(final ISuite suite) {
+        RequestMetrics metrics = RequestMetrics.getInstance();
+        if (metrics.getEndpoints().isEmpty()) {
+            return;
+        }
+        Path file = Paths.get(getProperty(HTTP_METRICS_REPORT_FILE, "target/http-metrics.json"));
+        metrics.writeJson(file);
+        String json = metrics.toJson();
+        LOGGER.info("HTTP metrics written to {}:{}{}", file, System.lineSeparator(), json);
+        List<String> resilience = new ArrayList<>();
+        for (PlayerApiClient client : ClientRegistry.getClients(PlayerApiClient.class)) {
+            ResilientCallExecutor executor = client.getResilience();
+            if (executor.getCalls() > 0) {
+                LOGGER.info("Retries and hedges of idempotent calls to {}: {}",
+                        client.getConfiguration().getServicePath(), executor);
+                resilience.add(client.getConfiguration().getServicePath() + ": " + executor);
+            }
+        }
+        attach(Allure.getLifecycle(), suite.getName(), json, resilience);
+    }
+
+    /**
+     * Writes a passed Allure result carrying the metrics and the retries and hedges as attachments.
+     *
+     * @param lifecycle the Allure lifecycle to write through
+     * @param suiteName the name of the suite, used as the suite label of the result
+     * @param metricsJson the per-endpoint metrics as JSON
+     * @param resilience the retries and hedges, one line per client, possibly empty
+     */
+    static void attach(final AllureLifecycle lifecycle, final String suiteName, final String metricsJson,
+                       final List<String> resilience) {
+        String uuid = UUID.randomUUID().toString();
+        String fullName = HttpMetricsReporter.class.getName() + "." + suiteName;
+        lifecycle.scheduleTestCase(new TestResult()
+                .setUuid(uuid)
+                .setName(RESULT_NAME)
+                .setFullName(fullName)
+                .setHistoryId(ResultsUtils.md5(fullName))
+                .setStatus(Status.PASSED)
+                .setLabels(List.of(
+                        ResultsUtils.createSuiteLabel(suiteName),
+                        ResultsUtils.createEpicLabel("Framework"),
+                        ResultsUtils.createFeatureLabel("HTTP Metrics"),
+                        ResultsUtils.createHostLabel())));
+        lifecycle.startTestCase(uuid);
+        try {
+            lifecycle.addAttachment(RESULT_NAME, "application/json", ".json",
+                    metricsJson.getBytes(StandardCharsets.UTF_8));
+            if (!resilience.isEmpty()) {
+                lifecycle.addAttachment("Retries and hedges", "text/plain", ".txt",
+                        String.join(System.lineSeparator(), resilience).getBytes(StandardCharsets.UTF_8));
+            }
+        } finally {
+            lifecycle.stopTestCase(uuid);
+            lifecycle.writeTestCase(uuid);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package suite;
+
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.FileSystemResultsWriter;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test suite for the end-of-suite HTTP metrics report.
+ */
+@Epic("Framework")
+@Feature("HTTP Metrics")
+public final class HttpMetricsReporterTest {
+
+    @Test(description = "The metrics summary is written to Allure as a result of its own")
+    @Description("Verify that the reporter writes a passed Allure result whose attachments hold the metrics JSON "
+            + "and the retries and hedges, without a running test to attach them to")
+    public void testSummaryIsAttachedToAllure() throws IOException {
+        Path results = Files.createTempDirectory("allure-results");
+        String json = "{\"GET /player/get\":{\"count\":1}}";
+
+        HttpMetricsReporter.attach(new AllureLifecycle(new FileSystemResultsWriter(results)), "Suite", json,
+                List.of("http://localhost: calls=1"));
+
+        List<Path> files;
+        try (Stream<Path> listed = Files.list(results)) {
+            files = listed.collect(Collectors.toList());
+        }
+        List<Path> testResults = files.stream()
+                .filter(file -> file.getFileName().toString().endsWith("-result.json"))
+                .collect(Collectors.toList());
+        assertEquals(testResults.size(), 1, "One result should be written: " + files);
+        String result = Files.readString(testResults.get(0));
+        assertTrue(result.contains("\"name\":\"" + HttpMetricsReporter.RESULT_NAME + "\""), result);
+        assertTrue(result.contains("\"status\":\"passed\""), result);
+
+        List<String> attachments = files.stream()
+                .filter(file -> file.getFileName().toString().contains("-attachment"))
+                .map(HttpMetricsReporterTest::read)
+                .collect(Collectors.toList());
+        assertEquals(attachments.size(), 2, "Both attachments should be written: " + files);
+        assertTrue(attachments.contains(json), "The metrics JSON should be attached: " + attachments);
+    }
+
+    private static String read(final Path file) {
+        try {
+            return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package suite;
+
+import api.PlayerControllerTest;
+import api.stub.PlayerStubServer;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static common.Properties.BASE_URL;
+import static common.Properties.HTTP_EXCHANGE_LOG_FILE;
+import static common.Properties.HTTP_EXCHANGE_MODE;
+import static common.Properties.HTTP_METRICS_REPORT_FILE;
+import static common.Properties.TEST_DATA_SEED;
+import static common.Properties.TEST_IDENTITY_NAMESPACE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test suite for re-running {@link PlayerControllerTest} offline from the exchanges it recorded.
+ * Both runs are forked JVMs, like the shards of {@link ShardedSuiteRunner}, since the seed and namespace of the test
+ * data are read once per JVM.
+ */
+@Epic("Framework")
+@Feature("Record and Replay")
+public final class PlayerControllerReplayTest {
+
+    private static final long RUN_TIMEOUT_MINUTES = 5;
+    private static final String SEED = "21";
+    private static final String NAMESPACE = "replay";
+
+    @Test(description = "A recorded run of the player controller tests replays without the service")
+    @Description("Verify that PlayerControllerTest, recorded against the stub server with a test data seed, passes "
+            + "again in replay mode once the stub server is gone")
+    public void testRecordedSuiteReplaysOffline() throws IOException, InterruptedException {
+        Path directory = Files.createTempDirectory("player-controller-replay");
+        Path log = directory.resolve("http-exchanges.bin");
+
+        String servicePath;
+        try (PlayerStubServer stubServer = PlayerStubServer.start()) {
+            servicePath = stubServer.getBaseUrl();
+            assertPasses(directory.resolve("record"), servicePath, "record", log);
+        }
+        assertTrue(Files.size(log) > 0, "The run should record its exchanges");
+
+        assertPasses(directory.resolve("replay"), servicePath, "replay", log);
+    }
+
+    /**
+     * Runs the player controller tests in a forked JVM and asserts that all of them pass.
+     */
+    private static void assertPasses(final Path directory, final String servicePath, final String mode,
+                                     final Path log) throws IOException, InterruptedException {
+        Files.createDirectories(directory);
+        Path output = directory.resolve("output.log");
+        Process process = new ProcessBuilder(List.of(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-D" + BASE_URL + "=" + servicePath,
+                "-D" + HTTP_EXCHANGE_MODE + "=" + mode,
+                "-D" + HTTP_EXCHANGE_LOG_FILE + "=" + log,
+                "-D" + TEST_DATA_SEED + "=" + SEED,
+                "-D" + TEST_IDENTITY_NAMESPACE + "=" + NAMESPACE,
+                "-D" + HTTP_METRICS_REPORT_FILE + "=" + directory.resolve("http-metrics.json"),
+                "-Dallure.results.directory=" + directory.resolve("allure-results"),
+                "-classpath", System.getProperty("java.class.path"),
+                "org.testng.TestNG",
+                "-d", directory.resolve("testng").toString(),
+                "-parallel", "methods",
+                "-threadcount", "4",
+                "-testclass", PlayerControllerTest.class.getName()))
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile())
+                .start();
+        if (!process.waitFor(RUN_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            fail("The " + mode + " run did not finish in " + RUN_TIMEOUT_MINUTES + " minutes, see " + output);
+        }
+        String summary = Files.readAllLines(output).stream()
+                .filter(line -> line.startsWith("Total tests run:"))
+                .findFirst()
+                .orElse("No tests ran");
+        assertEquals(process.exitValue(), 0, "The " + mode + " run failed: " + summary + ", see " + output);
+    }
+}
@@ -0,0 +1,254 @@
+package suite;
+
+import common.PropertiesReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import static common.Properties.SHARD_COUNT;
+import static common.Properties.SHARD_DURATIONS_FILE;
+import static common.Properties.SHARD_INDEX;
+
+/**
+ * Splits test methods into {@code count} disjoint shards and selects the one with the given index.
+ * <p>
+ * The split only depends on the set of method names and the recorded durations, never on the order TestNG lists
+ * the methods in, so every JVM or CI node running the same suite agrees on it. Without durations the sorted names
+ * are dealt out round-robin. With durations the longest methods are placed first, each on the shard with the least
+ * total duration so far; methods without a recorded duration count as the average of the recorded ones.
+ */
+public final class ShardPlan {
+
+    private final int index;
+    private final int count;
+    private final Map<String, Long> durations;
+
+    /**
+     * Creates a plan.
+     *
+     * @param index the zero-based index of the shard to select
+     * @param count the number of shards
+     * @param durations the recorded durations in milliseconds by qualified method name, possibly empty
+     */
+    public ShardPlan(final int index, final int count, final Map<String, Long> durations) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Shard count must be positive: " + count);
+        }
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Shard index must be between 0 and " + (count - 1) + ": " + index);
+        }
+        this.index = index;
+        this.count = count;
+        this.durations = Collections.unmodifiableMap(new HashMap<>(durations));
+    }
+
+    /**
+     * Creates the plan configured by {@code shard.index}, {@code shard.count} and {@code shard.durations.file}.
+     * <p>
+     * Durations are only balanced by when {@code shard.durations.file} is set: every shard has to read the same
+     * durations to agree on the split, which the default file under {@code target} does not guarantee across CI nodes.
+     *
+     * @return the plan
+     */
+    public static ShardPlan fromProperties() {
+        int count = PropertiesReader.getIntProperty(SHARD_COUNT, 1);
+        int index = PropertiesReader.getIntProperty(SHARD_INDEX, 0);
+        boolean balanced = count > 1 && isDurationsFileSet();
+        return new ShardPlan(index, count, balanced ? readDurations(durationsFile()) : Collections.emptyMap());
+    }
+
+    /**
+     * Gets the file durations are balanced by and recorded to.
+     *
+     * @return the durations file, {@code target/test-durations.properties} unless {@code shard.durations.file} is set
+     */
+    static Path durationsFile() {
+        return Paths.get(isDurationsFileSet()
+                ? PropertiesReader.getProperty(SHARD_DURATIONS_FILE).trim()
+                : "target/test-durations.properties");
+    }
+
+    /**
+     * Tells whether {@code shard.durations.file} is set, so that all shards balance by the same durations.
+     *
+     * @return true if the property is set and not blank
+     */
+    static boolean isDurationsFileSet() {
+        String file = PropertiesReader.getProperty(SHARD_DURATIONS_FILE);
+        return file != null && !file.trim().isEmpty();
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Tells whether the plan selects only part of the methods.
+     *
+     * @return true if there is more than one shard
+     */
+    public boolean isSharded() {
+        return count > 1;
+    }
+
+    /**
+     * Selects the items of this shard.
+     *
+     * @param items the items, e.g. TestNG method instances
+     * @param name the qualified method name of an item; items with the same name stay on the same shard
+     * @param <T> the item type
+     * @return the items of this shard, in their original order
+     */
+    public <T> List<T> select(final List<T> items, final Function<T, String> name) {
+        if (!isSharded()) {
+            return items;
+        }
+        List<String> names = new ArrayList<>(items.size());
+        for (T item : items) {
+            names.add(name.apply(item));
+        }
+        Map<String, Integer> shards = assign(names);
+        List<T> selected = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (shards.get(names.get(i)) == index) {
+                selected.add(items.get(i));
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Assigns each distinct name to a shard.
+     *
+     * @param names the qualified method names
+     * @return the shard index by name
+     */
+    Map<String, Integer> assign(final Collection<String> names) {
+        TreeSet<String> sorted = new TreeSet<>(names);
+        Map<String, Integer> shards = new HashMap<>();
+        if (!hasDurations(sorted)) {
+            int next = 0;
+            for (String name : sorted) {
+                shards.put(name, next++ % count);
+            }
+            return shards;
+        }
+
+        long estimate = averageDuration(sorted);
+        List<String> longestFirst = new ArrayList<>(sorted);
+        longestFirst.sort(Comparator.comparingLong((String name) -> durations.getOrDefault(name, estimate))
+                .reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        long[] loads = new long[count];
+        for (String name : longestFirst) {
+            int lightest = 0;
+            for (int shard = 1; shard < count; shard++) {
+                if (loads[shard] < loads[lightest]) {
+                    lightest = shard;
+                }
+            }
+            loads[lightest] += Math.max(1, durations.getOrDefault(name, estimate));
+            shards.put(name, lightest);
+        }
+        return shards;
+    }
+
+    private boolean hasDurations(final Collection<String> names) {
+        for (String name : names) {
+            if (durations.containsKey(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long averageDuration(final Collection<String> names) {
+        long total = 0;
+        int known = 0;
+        for (String name : names) {
+            Long duration = durations.get(name);
+            if (duration != null) {
+                total += duration;
+                known++;
+            }
+        }
+        return known > 0 ? total / known : 0;
+    }
+
+    /**
+     * Reads recorded durations. Unparsable entries are skipped.
+     *
+     * @param file the durations file
+     * @return the durations in milliseconds by qualified method name, empty if the file does not exist
+     */
+    static Map<String, Long> readDurations(final Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyMap();
+        }
+        java.util.Properties properties = new java.util.Properties();
+        try (InputStream input = Files.newInputStream(file)) {
+            properties.load(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read test durations from " + file, e);
+        }
+        Map<String, Long> durations = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            try {
+                durations.put(name, Long.parseLong(properties.getProperty(name).trim()));
+            } catch (NumberFormatException e) {
+                // Skip entries edited by hand into something else
+            }
+        }
+        return durations;
+    }
+
+    /**
+     * Writes durations sorted by name, so that the file diffs well if it is kept under version control.
+     *
+     * @param file the durations file
+     * @param durations the durations in milliseconds by qualified method name
+     */
+    static void writeDurations(final Path file, final Map<String, Long> durations) {
+        StringBuilder content = new StringBuilder("# Test method durations in milliseconds, used to balance shards\n");
+        for (Map.Entry<String, Long> entry : new TreeMap<>(durations).entrySet()) {
+            content.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(file, content.toString().getBytes(StandardCharsets.ISO_8859_1));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write test durations to " + file, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ShardPlan{" +
+                "index=" + index +
+                ", count=" + count +
+                ", durations=" + durations.size() +
+                '}';
+    }
+}
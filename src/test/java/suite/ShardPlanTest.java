@@ -0,0 +1,125 @@
+package suite;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test suite for splitting test methods into shards.
+ */
+@Epic("Framework")
+@Feature("Sharding")
+public final class ShardPlanTest {
+
+    private static final int METHODS = 50;
+    private static final int SHARDS = 4;
+
+    @Test(description = "Shards are disjoint and together cover every method")
+    @Description("Verify that every method is selected by exactly one of the shards")
+    public void testShardsPartitionMethods() {
+        List<String> methods = methods();
+        Set<String> selected = new HashSet<>();
+        for (int index = 0; index < SHARDS; index++) {
+            List<String> shard = new ShardPlan(index, SHARDS, Collections.emptyMap()).select(methods, name -> name);
+            assertTrue(shard.size() >= METHODS / SHARDS && shard.size() <= METHODS / SHARDS + 1,
+                    "Unbalanced shard size: " + shard.size());
+            for (String method : shard) {
+                assertTrue(selected.add(method), "Method in two shards: " + method);
+            }
+        }
+        assertEquals(selected.size(), METHODS);
+    }
+
+    @Test(description = "The split does not depend on the order of the methods")
+    @Description("Verify that shuffled method lists are split the same way")
+    public void testSplitIsStable() {
+        List<String> methods = methods();
+        List<String> shuffled = new ArrayList<>(methods);
+        Collections.shuffle(shuffled);
+        Map<String, Long> durations = new HashMap<>();
+        for (int i = 0; i < METHODS; i += 3) {
+            durations.put(methods.get(i), (long) i * 10);
+        }
+
+        for (Map<String, Long> recorded : List.of(Collections.<String, Long>emptyMap(), durations)) {
+            for (int index = 0; index < SHARDS; index++) {
+                ShardPlan plan = new ShardPlan(index, SHARDS, recorded);
+                assertEquals(new HashSet<>(plan.select(shuffled, name -> name)),
+                        new HashSet<>(plan.select(methods, name -> name)));
+            }
+        }
+    }
+
+    @Test(description = "Recorded durations balance the shards")
+    @Description("Verify that one long method gets a shard of its own while the short ones share the others")
+    public void testDurationsBalanceShards() {
+        List<String> methods = methods();
+        Map<String, Long> durations = new HashMap<>();
+        for (String method : methods) {
+            durations.put(method, 100L);
+        }
+        durations.put(methods.get(0), 100L * METHODS);
+
+        Map<String, Integer> shards = new ShardPlan(0, SHARDS, durations).assign(methods);
+        long[] loads = new long[SHARDS];
+        for (Map.Entry<String, Integer> entry : shards.entrySet()) {
+            loads[entry.getValue()] += durations.get(entry.getKey());
+        }
+        int longShard = shards.get(methods.get(0));
+        assertEquals(loads[longShard], 100L * METHODS, "The long method shares its shard");
+        long shortest = Long.MAX_VALUE;
+        long longest = 0;
+        for (int shard = 0; shard < SHARDS; shard++) {
+            if (shard != longShard) {
+                shortest = Math.min(shortest, loads[shard]);
+                longest = Math.max(longest, loads[shard]);
+            }
+        }
+        assertTrue(longest - shortest <= 100, "Unbalanced shards: " + Arrays.toString(loads));
+    }
+
+    @Test(description = "Durations survive a write and read")
+    @Description("Verify that recorded durations are read back unchanged and shard files get their own name")
+    public void testDurationsRoundTrip() throws Exception {
+        Path directory = Files.createTempDirectory("durations");
+        Path file = directory.resolve("test-durations.properties");
+        Map<String, Long> durations = new HashMap<>();
+        durations.put("api.PlayerControllerTest.testGetAllPlayers", 1234L);
+        durations.put("util.PlayerFactoryTest.testSeedIsReproducible", 5L);
+
+        ShardPlan.writeDurations(file, durations);
+
+        assertEquals(ShardPlan.readDurations(file), durations);
+        assertEquals(ShardPlan.readDurations(directory.resolve("missing.properties")), Collections.emptyMap());
+        assertEquals(TestDurationRecorder.shardFile(file, 2), directory.resolve("test-durations-shard-2.properties"));
+    }
+
+    @Test(description = "A shard index outside the shard count is rejected", expectedExceptions = IllegalArgumentException.class)
+    @Description("Verify that shard.index must be below shard.count")
+    public void testInvalidShardIndexIsRejected() {
+        new ShardPlan(SHARDS, SHARDS, Collections.emptyMap());
+    }
+
+    private static List<String> methods() {
+        List<String> methods = new ArrayList<>();
+        for (int i = 0; i < METHODS; i++) {
+            methods.add("api.SomeTest.test" + i);
+        }
+        return methods;
+    }
+}
@@ -0,0 +1,181 @@
+package suite;
+
+import api.client.ExchangeMode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import util.IdentityGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static common.Properties.HTTP_EXCHANGE_LOG_FILE;
+import static common.Properties.HTTP_EXCHANGE_MODE;
+import static common.Properties.HTTP_METRICS_REPORT_FILE;
+import static common.Properties.SHARD_DURATIONS_FILE;
+import static common.PropertiesReader.getProperty;
+
+/**
+ * Runs TestNG suites as {@code shard.count} forked JVMs at once, each with its own {@code shard.index}, then merges
+ * their Allure results into {@code allure.results.directory} and their recorded durations into
+ * {@code shard.durations.file}. Used by the {@code shards} Maven profile; the arguments are the suite XML files.
+ * <p>
+ * The forks inherit the JVM arguments of the runner, e.g. the AspectJ agent, and its class path, and share one
+ * {@link IdentityGenerator} namespace, told apart by their shard index as worker ID, and one durations file. They
+ * share the working directory too, so each writes its Allure results, HTTP metrics, recorded exchanges and console
+ * output under {@code target/shards/shard-<index>}; recorded exchanges are then appended to
+ * {@code http.exchange.log.file}. Exits with the highest fork status, so failed tests in any shard fail the build.
+ */
+public final class ShardedSuiteRunner {
+
+    private static final Logger LOGGER = LogManager.getLogger(ShardedSuiteRunner.class);
+    private static final Path SHARDS_DIRECTORY = Paths.get("target", "shards");
+
+    private ShardedSuiteRunner() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Usage: ShardedSuiteRunner <suite.xml>...");
+        }
+        int count = ShardPlan.fromProperties().getCount();
+        Path allureResults = Paths.get(System.getProperty("allure.results.directory", "target/allure-results"));
+        LOGGER.info("Running suites {} as {} shards", Arrays.asList(args), count);
+
+        List<Process> forks = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            forks.add(fork(index, count, args));
+        }
+        int status = 0;
+        for (int index = 0; index < count; index++) {
+            int shardStatus = forks.get(index).waitFor();
+            LOGGER.info("Shard {} of {} finished with status {}, output in {}", index + 1, count, shardStatus,
+                    shardDirectory(index).resolve("output.log"));
+            status = Math.max(status, shardStatus);
+        }
+
+        for (int index = 0; index < count; index++) {
+            mergeAllureResults(shardDirectory(index).resolve("allure-results"), allureResults);
+        }
+        if (isRecording()) {
+            mergeExchangeLogs(count, exchangeLogFile());
+        }
+        mergeDurations(count);
+        System.exit(status);
+    }
+
+    private static Process fork(final int index, final int count, final String[] suites) throws IOException {
+        Path directory = shardDirectory(index);
+        Files.createDirectories(directory);
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-Dshard.index=" + index);
+        command.add("-Dshard.count=" + count);
+        command.add("-Dtest.identity.namespace=" + IdentityGenerator.getInstance().getNamespace());
+        command.add("-Dallure.results.directory=" + directory.resolve("allure-results"));
+        command.add("-D" + SHARD_DURATIONS_FILE + "=" + ShardPlan.durationsFile());
+        command.add("-D" + HTTP_METRICS_REPORT_FILE + "=" + directory.resolve("http-metrics.json"));
+        // A replayed log is only read, so all forks can share it
+        command.add("-D" + HTTP_EXCHANGE_LOG_FILE + "="
+                + (isRecording() ? directory.resolve("http-exchanges.bin") : exchangeLogFile()));
+        command.add("-classpath");
+        command.add(System.getProperty("java.class.path"));
+        command.add("org.testng.TestNG");
+        command.addAll(Arrays.asList(suites));
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(directory.resolve("output.log").toFile())
+                .start();
+    }
+
+    private static Path shardDirectory(final int index) {
+        return SHARDS_DIRECTORY.resolve("shard-" + index);
+    }
+
+    private static boolean isRecording() {
+        return ExchangeMode.RECORD.name().equalsIgnoreCase(getProperty(HTTP_EXCHANGE_MODE, ExchangeMode.OFF.name()));
+    }
+
+    private static Path exchangeLogFile() {
+        return Paths.get(getProperty(HTTP_EXCHANGE_LOG_FILE, "target/http-exchanges.bin"));
+    }
+
+    /**
+     * Appends the exchanges recorded by the shards to one log, keeping only the header of the first.
+     */
+    private static void mergeExchangeLogs(final int count, final Path exchangeLog) throws IOException {
+        List<Path> shardLogs = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            Path shardLog = shardDirectory(index).resolve("http-exchanges.bin");
+            if (Files.isRegularFile(shardLog)) {
+                shardLogs.add(shardLog);
+            }
+        }
+        if (shardLogs.isEmpty()) {
+            return;
+        }
+        Path parent = exchangeLog.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream output = Files.newOutputStream(exchangeLog)) {
+            for (int i = 0; i < shardLogs.size(); i++) {
+                try (InputStream input = Files.newInputStream(shardLogs.get(i))) {
+                    if (i > 0) {
+                        input.readNBytes(Integer.BYTES);
+                    }
+                    input.transferTo(output);
+                }
+            }
+        }
+        LOGGER.info("Merged the exchange logs of {} shards into {}", shardLogs.size(), exchangeLog);
+    }
+
+    /**
+     * Copies the Allure results of a shard. Result files are named by UUID, so shards never overwrite each other.
+     */
+    private static void mergeAllureResults(final Path shardResults, final Path allureResults) throws IOException {
+        if (!Files.isDirectory(shardResults)) {
+            return;
+        }
+        Files.createDirectories(allureResults);
+        try (Stream<Path> files = Files.list(shardResults)) {
+            files.forEach(file -> {
+                try {
+                    Files.copy(file, allureResults.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not copy " + file + " to " + allureResults, e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Merges the durations recorded by the shards over the previously recorded ones.
+     */
+    private static void mergeDurations(final int count) throws IOException {
+        Path durationsFile = ShardPlan.durationsFile();
+        Map<String, Long> durations = new HashMap<>(ShardPlan.readDurations(durationsFile));
+        for (int index = 0; index < count; index++) {
+            Path shardFile = TestDurationRecorder.shardFile(durationsFile, index);
+            durations.putAll(ShardPlan.readDurations(shardFile));
+            Files.deleteIfExists(shardFile);
+        }
+        ShardPlan.writeDurations(durationsFile, durations);
+        LOGGER.info("Merged shard durations into {}", durationsFile);
+    }
+}
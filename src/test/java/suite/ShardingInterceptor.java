@@ -0,0 +1,42 @@
+package suite;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.List;
+
+/**
+ * TestNG interceptor that keeps only the test methods of the shard selected by {@code shard.index} and
+ * {@code shard.count}, see {@link ShardPlan}. With a single shard, the default, every method runs.
+ * Registered in {@code testng.xml}, so it applies to Surefire runs, {@link ShardedSuiteRunner} forks and CI nodes alike.
+ */
+public final class ShardingInterceptor implements IMethodInterceptor {
+
+    private static final Logger LOGGER = LogManager.getLogger(ShardingInterceptor.class);
+
+    @Override
+    public List<IMethodInstance> intercept(final List<IMethodInstance> methods, final ITestContext context) {
+        ShardPlan plan = ShardPlan.fromProperties();
+        if (!plan.isSharded()) {
+            return methods;
+        }
+        List<IMethodInstance> selected = plan.select(methods, method -> qualifiedName(method.getMethod()));
+        LOGGER.info("Shard {} of {} runs {} of {} methods of test '{}'", plan.getIndex() + 1, plan.getCount(),
+                selected.size(), methods.size(), context.getName());
+        return selected;
+    }
+
+    /**
+     * Gets the name a method is sharded and its duration recorded under.
+     *
+     * @param method the test method
+     * @return the class and method name, e.g. {@code api.PlayerControllerTest.testGetAllPlayers}
+     */
+    static String qualifiedName(final ITestNGMethod method) {
+        return method.getRealClass().getName() + "." + method.getMethodName();
+    }
+}
@@ -0,0 +1,70 @@
+package suite;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * TestNG listener that records how long each test method took, summing all invocations of a method, and writes the
+ * durations when the suite finishes, so that the next sharded run can balance shards by them.
+ * <p>
+ * Unsharded runs update {@code shard.durations.file} in place, keeping methods that did not run. A shard only writes
+ * its own methods, next to it with a {@code -shard-<index>} suffix, because shards may run at the same time;
+ * {@link ShardedSuiteRunner} merges those files back into {@code shard.durations.file}.
+ */
+public final class TestDurationRecorder implements IInvokedMethodListener, ISuiteListener {
+
+    private static final Logger LOGGER = LogManager.getLogger(TestDurationRecorder.class);
+
+    private final ConcurrentMap<String, Long> durations = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterInvocation(final IInvokedMethod method, final ITestResult testResult) {
+        if (method.isTestMethod()) {
+            durations.merge(ShardingInterceptor.qualifiedName(method.getTestMethod()),
+                    Math.max(0, testResult.getEndMillis() - testResult.getStartMillis()), Long::sum);
+        }
+    }
+
+    @Override
+    public void onFinish(final ISuite suite) {
+        if (durations.isEmpty()) {
+            return;
+        }
+        ShardPlan plan = ShardPlan.fromProperties();
+        Path file = plan.isSharded() ? shardFile(ShardPlan.durationsFile(), plan.getIndex()) : ShardPlan.durationsFile();
+        Map<String, Long> recorded = new HashMap<>();
+        if (!plan.isSharded()) {
+            recorded.putAll(ShardPlan.readDurations(file));
+        }
+        recorded.putAll(durations);
+        ShardPlan.writeDurations(file, recorded);
+        LOGGER.info("Recorded durations of {} test methods to {}", durations.size(), file);
+    }
+
+    /**
+     * Gets the file a shard records its durations to.
+     *
+     * @param durationsFile the shared durations file
+     * @param index the shard index
+     * @return e.g. {@code target/test-durations-shard-0.properties} for {@code target/test-durations.properties}
+     */
+    static Path shardFile(final Path durationsFile, final int index) {
+        String name = durationsFile.getFileName().toString();
+        int extension = name.lastIndexOf('.');
+        String shardName = extension > 0
+                ? name.substring(0, extension) + "-shard-" + index + name.substring(extension)
+                : name + "-shard-" + index;
+        return durationsFile.resolveSibling(shardName);
+    }
+}
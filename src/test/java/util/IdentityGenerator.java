@@ -0,0 +1,175 @@
+package util;
+
+import common.PropertiesReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static common.Properties.SHARD_INDEX;
+import static common.Properties.TEST_IDENTITY_MAX_LENGTH;
+import static common.Properties.TEST_IDENTITY_NAMESPACE;
+
+/**
+ * Generates logins and screen names that are unique across test threads, JVMs and runs without coordination.
+ * <p>
+ * Every value is {@code <prefix><namespace>_<worker>_<sequence>}, with numbers in base 36:
+ * <ul>
+ *     <li>the namespace identifies the run: {@code test.identity.namespace}, or 8 random characters if unset;</li>
+ *     <li>the worker tells apart the JVMs sharing a namespace, e.g. shards, and is {@code shard.index};</li>
+ *     <li>the sequence is a counter shared by all threads of the JVM.</li>
+ * </ul>
+ * When {@code test.data.seed} is set, a test method counts its own sequence instead, prefixed with a
+ * {@value #TEST_TOKEN_LENGTH}-character hash of its name, so it gets the same values on every run of the namespace
+ * however the tests running next to it interleave. Values generated outside a test still use the shared counter.
+ * The counter is the only shared state and is incremented without locking, so any number of concurrent creators
+ * gets distinct values and never retries on a duplicate login. Values longer than {@code test.identity.max.length}
+ * drop their prefix; if the rest still does not fit, generation fails rather than truncating it into a possible duplicate.
+ * <p>
+ * Screen names carry the namespace too, so the players of a run can be found in {@code /player/getAll}, which does not
+ * return logins, and deleted with {@link PlayerCleanupRegistry#sweepNamespace(String)}.
+ */
+public final class IdentityGenerator {
+
+    private static final Logger LOGGER = LogManager.getLogger(IdentityGenerator.class);
+    private static final String LOGIN_PREFIX = "testuser_";
+    private static final String SCREEN_NAME_PREFIX = "screen_";
+    private static final int RANDOM_NAMESPACE_LENGTH = 8;
+    private static final int TEST_TOKEN_LENGTH = 7;
+    private static final long TEST_TOKEN_RANGE = (long) Math.pow(Character.MAX_RADIX, TEST_TOKEN_LENGTH);
+    private static final IdentityGenerator INSTANCE = new IdentityGenerator(
+            PropertiesReader.getProperty(TEST_IDENTITY_NAMESPACE),
+            PropertiesReader.getIntProperty(SHARD_INDEX, 0),
+            PropertiesReader.getIntProperty(TEST_IDENTITY_MAX_LENGTH, 32),
+            TestDataSeed.isSeeded());
+
+    private final String namespace;
+    private final String worker;
+    private final int maxLength;
+    private final boolean perTest;
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentMap<String, AtomicLong> testSequences = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a generator with a sequence shared by all tests.
+     *
+     * @param namespace the namespace of letters and digits, or null or blank for a random one
+     * @param workerId the non-negative ID of this JVM among those sharing the namespace
+     * @param maxLength the maximum length of a value
+     */
+    IdentityGenerator(final String namespace, final int workerId, final int maxLength) {
+        this(namespace, workerId, maxLength, false);
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param namespace the namespace of letters and digits, or null or blank for a random one
+     * @param workerId the non-negative ID of this JVM among those sharing the namespace
+     * @param maxLength the maximum length of a value
+     * @param perTest whether each test method counts its own sequence
+     */
+    IdentityGenerator(final String namespace, final int workerId, final int maxLength, final boolean perTest) {
+        if (workerId < 0) {
+            throw new IllegalArgumentException("Worker ID must not be negative: " + workerId);
+        }
+        this.namespace = namespace == null || namespace.trim().isEmpty() ? randomNamespace() : namespace.trim();
+        if (!isAlphanumeric(this.namespace)) {
+            throw new IllegalArgumentException("Identity namespace must only contain letters and digits: " + namespace);
+        }
+        this.worker = Integer.toString(workerId, Character.MAX_RADIX);
+        this.maxLength = maxLength;
+        this.perTest = perTest;
+        LOGGER.info("Generating test identities in namespace {} as worker {}", this.namespace, workerId);
+    }
+
+    public static IdentityGenerator getInstance() {
+        return INSTANCE;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Generates a login distinct from every other login of this run, or of any run with another namespace.
+     *
+     * @return the login
+     */
+    public String nextLogin() {
+        return next(LOGIN_PREFIX);
+    }
+
+    /**
+     * Generates a screen name distinct from every other screen name of this run, or of any run with another namespace.
+     *
+     * @return the screen name
+     */
+    public String nextScreenName() {
+        return next(SCREEN_NAME_PREFIX);
+    }
+
+    /**
+     * Tells whether a login or screen name was generated in the given namespace.
+     *
+     * @param value the login or screen name
+     * @param namespace the namespace
+     * @return true if the value belongs to the namespace
+     */
+    public static boolean isInNamespace(final String value, final String namespace) {
+        if (value == null) {
+            return false;
+        }
+        String start = namespace + "_";
+        return value.startsWith(start) || value.startsWith(LOGIN_PREFIX + start)
+                || value.startsWith(SCREEN_NAME_PREFIX + start);
+    }
+
+    private String next(final String prefix) {
+        String unique = namespace + '_' + worker + '_' + nextSequence();
+        if (prefix.length() + unique.length() <= maxLength) {
+            return prefix.concat(unique);
+        }
+        if (unique.length() <= maxLength) {
+            return unique;
+        }
+        throw new IllegalStateException("Identity " + unique + " does not fit in " + maxLength
+                + " characters; shorten test.identity.namespace or raise test.identity.max.length");
+    }
+
+    private String nextSequence() {
+        String test = perTest ? TestDataSeed.currentTest() : null;
+        if (test == null) {
+            return Long.toString(sequence.incrementAndGet(), Character.MAX_RADIX);
+        }
+        String token = Long.toString(Math.floorMod(TestDataSeed.hash(test), TEST_TOKEN_RANGE), Character.MAX_RADIX);
+        StringBuilder value = new StringBuilder(TEST_TOKEN_LENGTH + 2);
+        for (int i = token.length(); i < TEST_TOKEN_LENGTH; i++) {
+            value.append('0');
+        }
+        long testSequence = testSequences.computeIfAbsent(test, ignored -> new AtomicLong()).incrementAndGet();
+        return value.append(token).append(Long.toString(testSequence, Character.MAX_RADIX)).toString();
+    }
+
+    private static String randomNamespace() {
+        SecureRandom random = new SecureRandom();
+        char[] chars = new char[RANDOM_NAMESPACE_LENGTH];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.forDigit(random.nextInt(Character.MAX_RADIX), Character.MAX_RADIX);
+        }
+        return new String(chars);
+    }
+
+    private static boolean isAlphanumeric(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,122 @@
+package util;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.Reporter;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test suite for the namespaced login and screen name generator.
+ */
+@Epic("Framework")
+@Feature("Test Data")
+public final class IdentityGeneratorTest {
+
+    private static final int THREADS = 16;
+    private static final int LOGINS_PER_THREAD = 10_000;
+
+    @Test(description = "Concurrent callers never get the same login")
+    @Description("Verify that 16 threads generating 10,000 logins each get distinct values within the length limit")
+    public void testConcurrentLoginsAreUnique() throws Exception {
+        IdentityGenerator generator = new IdentityGenerator("run1", 3, 32);
+        Set<String> logins = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < LOGINS_PER_THREAD; j++) {
+                        String login = generator.nextLogin();
+                        assertTrue(login.length() <= 32, "Login too long: " + login);
+                        assertTrue(logins.add(login), "Duplicate login: " + login);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(logins.size(), THREADS * LOGINS_PER_THREAD);
+    }
+
+    @Test(description = "Seeded identities repeat for the same test")
+    @Description("Verify that with per-test sequences every generator of a namespace gives a test the same "
+            + "distinct values, and that values generated outside a test use the shared counter")
+    public void testPerTestIdentitiesRepeat() throws Exception {
+        IdentityGenerator first = new IdentityGenerator("run1", 0, 32, true);
+        IdentityGenerator second = new IdentityGenerator("run1", 0, 32, true);
+
+        String login = first.nextLogin();
+        String screenName = first.nextScreenName();
+
+        assertEquals(second.nextLogin(), login, "A rerun of the test should get the same login");
+        assertEquals(second.nextScreenName(), screenName, "A rerun of the test should get the same screen name");
+        assertNotEquals(first.nextLogin(), login, "Logins within a test should be distinct");
+        assertTrue(IdentityGenerator.isInNamespace(login, "run1"), login);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(executor.submit(() -> {
+                // The current test result is inherited by threads started from a test
+                Reporter.setCurrentTestResult(null);
+                return first.nextLogin();
+            }).get(), "testuser_run1_0_1",
+                    "Outside a test the shared counter should be used");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "Workers sharing a namespace never collide")
+    @Description("Verify that generators with the same namespace and counter values differ by worker ID")
+    public void testWorkersDoNotCollide() {
+        IdentityGenerator first = new IdentityGenerator("run1", 0, 32);
+        IdentityGenerator second = new IdentityGenerator("run1", 1, 32);
+        for (int i = 0; i < 1_000; i++) {
+            assertFalse(first.nextLogin().equals(second.nextLogin()), "Workers generated the same login");
+        }
+    }
+
+    @Test(description = "Values belong to their namespace")
+    @Description("Verify that logins and screen names are recognized by namespace, also without their prefix")
+    public void testValuesAreNamespaced() {
+        IdentityGenerator generator = new IdentityGenerator("run1", 0, 32);
+        IdentityGenerator shortGenerator = new IdentityGenerator("run1", 0, 12);
+
+        assertTrue(IdentityGenerator.isInNamespace(generator.nextLogin(), "run1"));
+        assertTrue(IdentityGenerator.isInNamespace(generator.nextScreenName(), "run1"));
+        String unprefixed = shortGenerator.nextScreenName();
+        assertEquals(unprefixed, "run1_0_1", "Prefix should be dropped to fit the length limit");
+        assertTrue(IdentityGenerator.isInNamespace(unprefixed, "run1"));
+        assertFalse(IdentityGenerator.isInNamespace(generator.nextLogin(), "run"));
+        assertFalse(IdentityGenerator.isInNamespace(null, "run1"));
+        assertEquals(new IdentityGenerator(null, 0, 32).getNamespace().length(), 8);
+    }
+
+    @Test(description = "A value that cannot fit is rejected", expectedExceptions = IllegalStateException.class)
+    @Description("Verify that the generator fails instead of truncating a value into a possible duplicate")
+    public void testTooLongValueIsRejected() {
+        new IdentityGenerator("averylongnamespace", 0, 12).nextLogin();
+    }
+
+    @Test(description = "A namespace with separators is rejected", expectedExceptions = IllegalArgumentException.class)
+    @Description("Verify that the namespace may only contain letters and digits")
+    public void testInvalidNamespaceIsRejected() {
+        new IdentityGenerator("run_1", 0, 32);
+    }
+}
@@ -0,0 +1,209 @@
+package util;
+
+import api.model.response.PlayerShortResponse;
+import api.requests.AsyncPlayerApiClient;
+import api.requests.BulkResult;
+import api.requests.PlayerApiClient;
+import api.requests.PlayerBulkOperations;
+import io.qameta.allure.Allure;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static common.Properties.CLEANUP_MODE;
+import static common.Properties.DEFAULT_SUPERVISOR_LOGIN;
+import static common.Properties.TEST_RETRY_COUNT;
+import static common.PropertiesReader.getIntProperty;
+import static common.PropertiesReader.getProperty;
+
+/**
+ * Registry of players created by tests that have to be removed afterwards.
+ * Players are registered on the test thread and deleted either in parallel at the end of
+ * each test method or in a single sweep at the end of the suite, depending on {@link Mode}.
+ */
+public final class PlayerCleanupRegistry {
+
+    private static final Logger LOGGER = LogManager.getLogger(PlayerCleanupRegistry.class);
+    private static final PlayerCleanupRegistry INSTANCE = new PlayerCleanupRegistry(
+            Mode.valueOf(getProperty(CLEANUP_MODE, Mode.PARALLEL.name()).toUpperCase(Locale.ROOT)),
+            getIntProperty(TEST_RETRY_COUNT, 2), null);
+
+    /**
+     * Cleanup mode.
+     */
+    public enum Mode {
+        /** Delete the players of a test method in parallel when the method ends. */
+        PARALLEL,
+        /** Collect the players of all test methods and delete them in one sweep when the suite ends. */
+        DEFERRED
+    }
+
+    private final Mode mode;
+    private final int retryCount;
+    private final ThreadLocal<List<Integer>> methodPlayerIds = ThreadLocal.withInitial(ArrayList::new);
+    private final Queue<Integer> deferredPlayerIds = new ConcurrentLinkedQueue<>();
+    private final Set<Integer> leakedPlayerIds = ConcurrentHashMap.newKeySet();
+    private volatile PlayerBulkOperations bulkOperations;
+
+    /**
+     * Creates a registry.
+     *
+     * @param mode the cleanup mode
+     * @param retryCount the number of times failed deletions are retried
+     * @param bulkOperations the bulk operations to delete players with, or null for the shared client's
+     */
+    PlayerCleanupRegistry(final Mode mode, final int retryCount, final PlayerBulkOperations bulkOperations) {
+        this.mode = mode;
+        this.retryCount = retryCount;
+        this.bulkOperations = bulkOperations;
+        LOGGER.info("Player cleanup registry initialized in {} mode with {} retries", mode, retryCount);
+    }
+
+    public static PlayerCleanupRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Registers a player created by the current test method.
+     *
+     * @param playerId the player ID
+     */
+    public void register(final Integer playerId) {
+        if (playerId != null) {
+            methodPlayerIds.get().add(playerId);
+        }
+    }
+
+    /**
+     * Handles the players registered by the current test method.
+     * Must be called from the thread that ran the test method, e.g. from an {@code @AfterMethod} hook.
+     */
+    public void cleanUp() {
+        List<Integer> playerIds = new ArrayList<>(methodPlayerIds.get());
+        methodPlayerIds.remove();
+        if (playerIds.isEmpty()) {
+            return;
+        }
+
+        if (mode == Mode.DEFERRED) {
+            deferredPlayerIds.addAll(playerIds);
+            LOGGER.debug("Deferred cleanup of players: {}", playerIds);
+        } else {
+            delete(playerIds, bulkOperations());
+        }
+    }
+
+    /**
+     * Deletes all deferred players and reports the players that could not be deleted.
+     * Intended for an {@code @AfterSuite} hook.
+     *
+     * @return the IDs of the players that are left on the service
+     */
+    public List<Integer> sweep() {
+        List<Integer> playerIds = new ArrayList<>();
+        for (Integer playerId = deferredPlayerIds.poll(); playerId != null; playerId = deferredPlayerIds.poll()) {
+            playerIds.add(playerId);
+        }
+        if (!playerIds.isEmpty()) {
+            LOGGER.info("Sweeping {} deferred players", playerIds.size());
+            delete(playerIds, bulkOperations());
+        }
+
+        List<Integer> leaked = new ArrayList<>(leakedPlayerIds);
+        if (!leaked.isEmpty()) {
+            LOGGER.warn("Players leaked after cleanup: {}", leaked);
+            Allure.addAttachment("Leaked player IDs", leaked.toString());
+        }
+        return leaked;
+    }
+
+    /**
+     * Deletes every player on the service whose screen name was generated by {@link IdentityGenerator} in the given
+     * namespace, e.g. to remove what an aborted run left behind. Players of other runs are not touched.
+     *
+     * @param namespace the namespace of the run to clean up
+     * @return the IDs of the players that are left on the service
+     */
+    public List<Integer> sweepNamespace(final String namespace) {
+        return sweepNamespace(namespace, PlayerApiClient.shared());
+    }
+
+    /**
+     * Deletes every player of the given namespace from the service of a client, see {@link #sweepNamespace(String)}.
+     *
+     * @param namespace the namespace of the run to clean up
+     * @param client the client of the service, whose configuration the deletions are sent with as well
+     * @return the IDs of the players that are left on the service
+     */
+    public List<Integer> sweepNamespace(final String namespace, final PlayerApiClient client) {
+        List<Integer> playerIds;
+        try (Stream<PlayerShortResponse> players = client.streamAllPlayers()) {
+            playerIds = players
+                    .filter(player -> IdentityGenerator.isInNamespace(player.getScreenName(), namespace))
+                    .map(PlayerShortResponse::getId)
+                    .collect(Collectors.toList());
+        }
+        LOGGER.info("Sweeping {} players of namespace {}", playerIds.size(), namespace);
+        if (playerIds.isEmpty()) {
+            return playerIds;
+        }
+        delete(playerIds, PlayerBulkOperations.builder()
+                .client(AsyncPlayerApiClient.shared(client.getConfiguration()))
+                .build());
+        List<Integer> leaked = playerIds.stream().filter(leakedPlayerIds::contains).collect(Collectors.toList());
+        if (!leaked.isEmpty()) {
+            LOGGER.warn("Players of namespace {} left after the sweep: {}", namespace, leaked);
+        }
+        return leaked;
+    }
+
+    /**
+     * Deletes the players in parallel, retrying failed deletions.
+     * A 404 response counts as deleted since the test may have removed the player itself.
+     *
+     * @param playerIds the IDs to delete
+     * @param operations the bulk operations to delete them with
+     */
+    private void delete(final Collection<Integer> playerIds, final PlayerBulkOperations operations) {
+        String editor = getProperty(DEFAULT_SUPERVISOR_LOGIN);
+        Collection<Integer> remaining = playerIds;
+
+        for (int attempt = 0; attempt <= retryCount && !remaining.isEmpty(); attempt++) {
+            BulkResult<Integer> result = operations.deletePlayers(editor, remaining);
+            remaining = result.getItems().stream()
+                    .filter(item -> !item.isSuccessful()
+                            && (item.getResponse() == null || item.getResponse().getStatusCode() != 404))
+                    .map(BulkResult.Item::getInput)
+                    .collect(Collectors.toList());
+            if (!remaining.isEmpty()) {
+                LOGGER.warn("Failed to clean up players {} on attempt {}", remaining, attempt + 1);
+            }
+        }
+        leakedPlayerIds.addAll(remaining);
+    }
+
+    private PlayerBulkOperations bulkOperations() {
+        if (bulkOperations == null) {
+            synchronized (this) {
+                if (bulkOperations == null) {
+                    bulkOperations = PlayerBulkOperations.builder().build();
+                }
+            }
+        }
+        return bulkOperations;
+    }
+}
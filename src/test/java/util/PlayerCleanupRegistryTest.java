@@ -0,0 +1,174 @@
+package util;
+
+import api.client.AllureAttachmentMode;
+import api.client.Configuration;
+import api.client.LogPolicy;
+import api.model.request.Player;
+import api.model.response.PlayerResponse;
+import api.requests.AsyncPlayerApiClient;
+import api.requests.PlayerApiClient;
+import api.requests.PlayerBulkOperations;
+import api.stub.PlayerStubServer;
+import common.PropertiesReader;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test suite for the cleanup of players created by tests, in both modes and by the namespace of the run
+ * that created them. Each test runs against its own in-process player stub server, so failures injected
+ * into one do not reach the others.
+ */
+@Epic("Framework")
+@Feature("Test Data")
+public final class PlayerCleanupRegistryTest {
+
+    private static final int RETRY_COUNT = 2;
+
+    private final String editor = PropertiesReader.snapshot().getDefaultSupervisorLogin();
+
+    @Test(description = "Parallel mode deletes the players of a method when it ends")
+    @Description("Verify that cleanUp() in PARALLEL mode deletes the registered players right away")
+    public void testParallelModeDeletesOnCleanUp() {
+        try (PlayerStubServer stubServer = PlayerStubServer.start()) {
+            PlayerApiClient apiClient = createClient(stubServer);
+            PlayerCleanupRegistry registry = createRegistry(PlayerCleanupRegistry.Mode.PARALLEL, stubServer);
+            PlayerFactory factory = PlayerFactory.seeded(4);
+            Integer first = createPlayer(apiClient, factory.validPlayer());
+            Integer second = createPlayer(apiClient, factory.validPlayer());
+            registry.register(first);
+            registry.register(second);
+
+            registry.cleanUp();
+
+            apiClient.getPlayer(first).expectingStatusCode(404);
+            apiClient.getPlayer(second).expectingStatusCode(404);
+            assertTrue(registry.sweep().isEmpty(), "No player should be leaked");
+        }
+    }
+
+    @Test(description = "Deferred mode keeps the players until the sweep")
+    @Description("Verify that cleanUp() in DEFERRED mode leaves the players on the service and sweep() deletes them")
+    public void testDeferredModeDeletesOnSweep() {
+        try (PlayerStubServer stubServer = PlayerStubServer.start()) {
+            PlayerApiClient apiClient = createClient(stubServer);
+            PlayerCleanupRegistry registry = createRegistry(PlayerCleanupRegistry.Mode.DEFERRED, stubServer);
+            Integer playerId = createPlayer(apiClient, PlayerFactory.seeded(5).validPlayer());
+            registry.register(playerId);
+
+            registry.cleanUp();
+            apiClient.getPlayer(playerId).expectingStatusCode(200);
+
+            assertTrue(registry.sweep().isEmpty(), "No player should be leaked");
+            apiClient.getPlayer(playerId).expectingStatusCode(404);
+        }
+    }
+
+    @Test(description = "Failed deletions are retried")
+    @Description("Verify that a player whose deletion fails twice is deleted by the retries")
+    public void testFailedDeletionIsRetried() {
+        try (PlayerStubServer stubServer = PlayerStubServer.start()) {
+            PlayerApiClient apiClient = createClient(stubServer);
+            PlayerCleanupRegistry registry = createRegistry(PlayerCleanupRegistry.Mode.PARALLEL, stubServer);
+            Integer playerId = createPlayer(apiClient, PlayerFactory.seeded(6).validPlayer());
+            registry.register(playerId);
+            stubServer.failNext("delete", RETRY_COUNT, 503);
+
+            registry.cleanUp();
+
+            apiClient.getPlayer(playerId).expectingStatusCode(404);
+            assertTrue(registry.sweep().isEmpty(), "No player should be leaked");
+        }
+    }
+
+    @Test(description = "A player that is already gone counts as deleted")
+    @Description("Verify that a 404 on deletion is not retried or reported as leaked")
+    public void testMissingPlayerCountsAsDeleted() {
+        try (PlayerStubServer stubServer = PlayerStubServer.start()) {
+            PlayerApiClient apiClient = createClient(stubServer);
+            PlayerCleanupRegistry registry = createRegistry(PlayerCleanupRegistry.Mode.PARALLEL, stubServer);
+            Integer playerId = createPlayer(apiClient, PlayerFactory.seeded(7).validPlayer());
+            assertEquals(apiClient.deletePlayer(editor, playerId).getStatusCode(), 200);
+            registry.register(playerId);
+
+            registry.cleanUp();
+
+            assertTrue(registry.sweep().isEmpty(), "A deleted player should not be leaked");
+        }
+    }
+
+    @Test(description = "Players that cannot be deleted are reported as leaked")
+    @Description("Verify that a player whose deletion fails on every attempt is returned by sweep()")
+    public void testUndeletablePlayerIsLeaked() {
+        try (PlayerStubServer stubServer = PlayerStubServer.start()) {
+            PlayerApiClient apiClient = createClient(stubServer);
+            PlayerCleanupRegistry registry = createRegistry(PlayerCleanupRegistry.Mode.PARALLEL, stubServer);
+            Integer playerId = createPlayer(apiClient, PlayerFactory.seeded(8).validPlayer());
+            registry.register(playerId);
+            stubServer.failNext("delete", RETRY_COUNT + 1, 503);
+
+            registry.cleanUp();
+
+            assertEquals(registry.sweep(), List.of(playerId), "The player should be reported as leaked");
+            apiClient.getPlayer(playerId).expectingStatusCode(200);
+        }
+    }
+
+    @Test(description = "A namespace sweep deletes only the players of its own namespace")
+    @Description("Verify that sweeping a namespace deletes the players it generated and leaves those of another run")
+    public void testSweepNamespaceDeletesOnlyItsOwnPlayers() {
+        try (PlayerStubServer stubServer = PlayerStubServer.start()) {
+            PlayerApiClient apiClient = createClient(stubServer);
+            IdentityGenerator otherRun = new IdentityGenerator("otherrun", 0, 32);
+            PlayerFactory factory = PlayerFactory.seeded(3);
+            Integer ownFirst = createPlayer(apiClient, factory.validPlayer());
+            Integer ownSecond = createPlayer(apiClient, factory.validPlayer());
+            Player foreign = factory.validPlayer();
+            foreign.setLogin(otherRun.nextLogin());
+            foreign.setScreenName(otherRun.nextScreenName());
+            Integer foreignId = createPlayer(apiClient, foreign);
+
+            List<Integer> leaked = PlayerCleanupRegistry.getInstance()
+                    .sweepNamespace(IdentityGenerator.getInstance().getNamespace(), apiClient);
+
+            assertTrue(leaked.isEmpty(), "No player should be left behind: " + leaked);
+            apiClient.getPlayer(ownFirst).expectingStatusCode(404);
+            apiClient.getPlayer(ownSecond).expectingStatusCode(404);
+            apiClient.getPlayer(foreignId).expectingStatusCode(200);
+            assertEquals(stubServer.getPlayerCount(), 1, "Only the player of the other run should be left");
+        }
+    }
+
+    private PlayerCleanupRegistry createRegistry(final PlayerCleanupRegistry.Mode mode,
+                                                 final PlayerStubServer stubServer) {
+        return new PlayerCleanupRegistry(mode, RETRY_COUNT, PlayerBulkOperations.builder()
+                .client(new AsyncPlayerApiClient(configuration(stubServer)))
+                .build());
+    }
+
+    private static PlayerApiClient createClient(final PlayerStubServer stubServer) {
+        return new PlayerApiClient(configuration(stubServer));
+    }
+
+    private static Configuration configuration(final PlayerStubServer stubServer) {
+        return Configuration.builder()
+                .servicePath(stubServer.getBaseUrl())
+                .contentType("application/json")
+                .logPolicy(LogPolicy.NONE)
+                .allureAttachmentMode(AllureAttachmentMode.OFF)
+                .build();
+    }
+
+    private Integer createPlayer(final PlayerApiClient apiClient, final Player player) {
+        return apiClient.createPlayer(editor, player)
+                .expectingStatusCode(200)
+                .readEntity(PlayerResponse.class)
+                .getPlayerId();
+    }
+}
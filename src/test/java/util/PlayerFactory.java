@@ -0,0 +1,189 @@
+package util;
+
+import api.model.request.Player;
+import common.PropertiesReader;
+import common.PropertySnapshot;
+
+import java.util.SplittableRandom;
+
+/**
+ * High-throughput player generator for large datasets and load generation.
+ * Unlike {@link TestDataGenerator} it does not use Faker: every field is drawn from precomputed alphabets
+ * with a seeded {@link SplittableRandom}, so the same seed yields the same players apart from the login and
+ * screen name.
+ * Ages and passwords respect the bounds from the {@code test.*} properties.
+ * <p>
+ * Instances are not thread-safe; give each thread its own factory through {@link #split()}, or pre-fill a
+ * {@link PlayerPool} from a background thread. Logins and screen names come from {@link IdentityGenerator}, so they
+ * are unique among all factories, shards and runs, and the players of a run can be swept by its namespace.
+ */
+public final class PlayerFactory {
+
+    private static final char[] LETTERS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final char[] DIGITS = "0123456789".toCharArray();
+    private static final char[] ALPHANUMERIC = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789"
+            .toCharArray();
+    private static final String[] GENDERS = {"male", "female"};
+    private static final String INVALID_PREFIX = "invalid_";
+
+    /**
+     * Ways in which {@link #invalidPlayer(Violation)} breaks a valid player, mirroring the invalid players
+     * of {@link TestDataGenerator}.
+     */
+    public enum Violation {
+        AGE_TOO_YOUNG,
+        AGE_TOO_OLD,
+        GENDER,
+        PASSWORD_TOO_SHORT,
+        PASSWORD_TOO_LONG,
+        PASSWORD_NO_DIGITS,
+        PASSWORD_NO_LETTERS,
+        ROLE,
+        MISSING_FIELDS
+    }
+
+    private final SplittableRandom random;
+    private final int minAge;
+    private final int ageRange;
+    private final int minPasswordLength;
+    private final int maxPasswordLength;
+
+    private PlayerFactory(final SplittableRandom random, final PropertySnapshot properties) {
+        this.random = random;
+        this.minAge = properties.getTestUserMinAge();
+        this.ageRange = properties.getTestUserMaxAge() - minAge + 1;
+        this.minPasswordLength = properties.getTestPasswordMinLength();
+        this.maxPasswordLength = properties.getTestPasswordMaxLength();
+    }
+
+    /**
+     * Creates a factory with the given seed, using the current property snapshot for its bounds.
+     *
+     * @param seed the random seed
+     * @return the factory
+     */
+    public static PlayerFactory seeded(final long seed) {
+        return new PlayerFactory(new SplittableRandom(seed), PropertiesReader.snapshot());
+    }
+
+    /**
+     * Creates an independent factory for another thread, seeded from this one.
+     *
+     * @return the new factory
+     */
+    public PlayerFactory split() {
+        return new PlayerFactory(random.split(), PropertiesReader.snapshot());
+    }
+
+    /**
+     * Generates a valid player with default "user" role.
+     *
+     * @return a valid Player object
+     */
+    public Player validPlayer() {
+        return validPlayer("user");
+    }
+
+    /**
+     * Generates a valid player with specified role.
+     *
+     * @param role the role for the player
+     * @return a valid Player object
+     */
+    public Player validPlayer(final String role) {
+        return new Player(minAge + random.nextInt(ageRange), GENDERS[random.nextInt(GENDERS.length)], nextLogin(),
+                validPassword(), role, IdentityGenerator.getInstance().nextScreenName());
+    }
+
+    /**
+     * Generates a player that is valid except for the given violation.
+     *
+     * @param violation the rule the player breaks
+     * @return an invalid Player object
+     */
+    public Player invalidPlayer(final Violation violation) {
+        Player player = validPlayer();
+        switch (violation) {
+            case AGE_TOO_YOUNG:
+                player.setAge(minAge - 1 - random.nextInt(Math.max(1, minAge)));
+                break;
+            case AGE_TOO_OLD:
+                player.setAge(minAge + ageRange + random.nextInt(ageRange));
+                break;
+            case GENDER:
+                player.setGender(INVALID_PREFIX + randomString(LETTERS, 4));
+                break;
+            case PASSWORD_TOO_SHORT:
+                player.setPassword(password(1 + random.nextInt(Math.max(1, minPasswordLength - 2))));
+                break;
+            case PASSWORD_TOO_LONG:
+                player.setPassword(password(maxPasswordLength + 1 + random.nextInt(maxPasswordLength)));
+                break;
+            case PASSWORD_NO_DIGITS:
+                player.setPassword(randomString(LETTERS, passwordLength()));
+                break;
+            case PASSWORD_NO_LETTERS:
+                player.setPassword(randomString(DIGITS, passwordLength()));
+                break;
+            case ROLE:
+                player.setRole(INVALID_PREFIX + randomString(LETTERS, 4));
+                break;
+            case MISSING_FIELDS:
+                player.setLogin(null);
+                player.setPassword(null);
+                player.setRole(null);
+                player.setScreenName(null);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported violation: " + violation);
+        }
+        return player;
+    }
+
+    /**
+     * Generates a player breaking a random rule.
+     *
+     * @return an invalid Player object
+     */
+    public Player invalidPlayer() {
+        Violation[] violations = Violation.values();
+        return invalidPlayer(violations[random.nextInt(violations.length)]);
+    }
+
+    private String validPassword() {
+        return password(passwordLength());
+    }
+
+    private int passwordLength() {
+        return minPasswordLength + random.nextInt(maxPasswordLength - minPasswordLength + 1);
+    }
+
+    /**
+     * Generates a password of the given length with at least one letter and one digit, if it has room for both.
+     */
+    private String password(final int length) {
+        char[] password = new char[length];
+        for (int i = 0; i < length; i++) {
+            password[i] = ALPHANUMERIC[random.nextInt(ALPHANUMERIC.length)];
+        }
+        if (length >= 2) {
+            int letterIndex = random.nextInt(length);
+            int digitIndex = (letterIndex + 1 + random.nextInt(length - 1)) % length;
+            password[letterIndex] = LETTERS[random.nextInt(LETTERS.length)];
+            password[digitIndex] = DIGITS[random.nextInt(DIGITS.length)];
+        }
+        return new String(password);
+    }
+
+    private String nextLogin() {
+        return IdentityGenerator.getInstance().nextLogin();
+    }
+
+    private String randomString(final char[] alphabet, final int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,106 @@
+package util;
+
+import api.model.request.Player;
+import common.PropertiesReader;
+import common.PropertySnapshot;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test suite for the fast player factory and pool.
+ */
+@Epic("Framework")
+@Feature("Test Data")
+public final class PlayerFactoryTest {
+
+    private static final int PLAYERS = 10_000;
+
+    private final PropertySnapshot properties = PropertiesReader.snapshot();
+
+    @Test(description = "Valid players respect the configured bounds and have unique logins")
+    @Description("Verify that generated players have ages and passwords within the configured bounds and no duplicate logins")
+    public void testValidPlayersRespectBounds() {
+        PlayerFactory factory = PlayerFactory.seeded(42);
+        Set<String> logins = new HashSet<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            Player player = factory.validPlayer();
+            assertTrue(player.getAge() >= properties.getTestUserMinAge()
+                    && player.getAge() <= properties.getTestUserMaxAge(), "Age out of bounds: " + player.getAge());
+            assertTrue(isValidPassword(player.getPassword()), "Invalid password: " + player.getPassword());
+            assertTrue(player.getGender().equals("male") || player.getGender().equals("female"),
+                    "Invalid gender: " + player.getGender());
+            assertTrue(logins.add(player.getLogin()), "Duplicate login: " + player.getLogin());
+        }
+    }
+
+    @Test(description = "Same seed yields the same players")
+    @Description("Verify that two factories with the same seed generate the same fields apart from the login and "
+            + "screen name, which stay unique and in the namespace of the run")
+    public void testSeedIsReproducible() {
+        PlayerFactory first = PlayerFactory.seeded(7);
+        PlayerFactory second = PlayerFactory.seeded(7);
+        String namespace = IdentityGenerator.getInstance().getNamespace();
+        for (int i = 0; i < 100; i++) {
+            Player expected = first.validPlayer();
+            Player actual = second.validPlayer();
+            assertEquals(actual.getAge(), expected.getAge());
+            assertEquals(actual.getGender(), expected.getGender());
+            assertEquals(actual.getPassword(), expected.getPassword());
+            assertNotEquals(actual.getScreenName(), expected.getScreenName());
+            assertTrue(IdentityGenerator.isInNamespace(actual.getScreenName(), namespace),
+                    "Screen name outside of the namespace: " + actual.getScreenName());
+        }
+    }
+
+    @Test(description = "Invalid players break exactly the requested rule")
+    @Description("Verify that every violation produces a player failing the corresponding rule")
+    public void testInvalidPlayersBreakRule() {
+        PlayerFactory factory = PlayerFactory.seeded(13);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(factory.invalidPlayer(PlayerFactory.Violation.AGE_TOO_YOUNG).getAge() < properties.getTestUserMinAge());
+            assertTrue(factory.invalidPlayer(PlayerFactory.Violation.AGE_TOO_OLD).getAge() > properties.getTestUserMaxAge());
+            assertTrue(factory.invalidPlayer(PlayerFactory.Violation.PASSWORD_TOO_SHORT).getPassword().length()
+                    < properties.getTestPasswordMinLength());
+            assertTrue(factory.invalidPlayer(PlayerFactory.Violation.PASSWORD_TOO_LONG).getPassword().length()
+                    > properties.getTestPasswordMaxLength());
+            assertFalse(factory.invalidPlayer(PlayerFactory.Violation.PASSWORD_NO_DIGITS).getPassword().matches(".*\\d.*"));
+            assertFalse(factory.invalidPlayer(PlayerFactory.Violation.PASSWORD_NO_LETTERS).getPassword()
+                    .matches(".*[a-zA-Z].*"));
+            assertNull(factory.invalidPlayer(PlayerFactory.Violation.MISSING_FIELDS).getLogin());
+        }
+    }
+
+    @Test(description = "Pool hands out valid players from its producer")
+    @Description("Verify that a pool fills up to its capacity and serves valid players")
+    public void testPoolServesPlayers() throws InterruptedException {
+        try (PlayerPool pool = PlayerPool.start(PlayerFactory.seeded(1), 64)) {
+            Set<String> logins = new HashSet<>();
+            for (int i = 0; i < PLAYERS; i++) {
+                assertTrue(logins.add(pool.take().getLogin()), "Pool should not repeat players");
+            }
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (pool.size() < 64 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(pool.size(), 64, "Pool should be refilled up to its capacity");
+        }
+    }
+
+    private boolean isValidPassword(final String password) {
+        return password.length() >= properties.getTestPasswordMinLength()
+                && password.length() <= properties.getTestPasswordMaxLength()
+                && password.matches("[a-zA-Z0-9]*[a-zA-Z][a-zA-Z0-9]*")
+                && password.matches(".*\\d.*");
+    }
+}
@@ -0,0 +1,86 @@
+package util;
+
+import api.model.request.Player;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of valid players, kept full by a background producer thread.
+ * Consumers take ready-made players instead of generating them on the request path.
+ */
+public final class PlayerPool implements AutoCloseable {
+
+    private static final Logger LOGGER = LogManager.getLogger(PlayerPool.class);
+    private static final AtomicInteger poolIds = new AtomicInteger();
+
+    private final BlockingQueue<Player> players;
+    private final Thread producer;
+
+    private PlayerPool(final PlayerFactory factory, final int capacity) {
+        this.players = new ArrayBlockingQueue<>(capacity);
+        this.producer = new Thread(() -> produce(factory), "player-pool-" + poolIds.incrementAndGet());
+        this.producer.setDaemon(true);
+    }
+
+    /**
+     * Starts a pool filled from the given factory. The factory is used by the producer thread only
+     * and must not be shared with other threads.
+     *
+     * @param factory the factory generating the players
+     * @param capacity the maximum number of players kept ready
+     * @return the started pool
+     */
+    public static PlayerPool start(final PlayerFactory factory, final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Pool capacity must be positive: " + capacity);
+        }
+        PlayerPool pool = new PlayerPool(factory, capacity);
+        pool.producer.start();
+        LOGGER.debug("Started player pool {} with capacity {}", pool.producer.getName(), capacity);
+        return pool;
+    }
+
+    /**
+     * Takes a player, waiting for the producer if the pool is empty.
+     *
+     * @return a valid player
+     * @throws IllegalStateException if the thread is interrupted while waiting
+     */
+    public Player take() {
+        try {
+            return players.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a player", e);
+        }
+    }
+
+    /**
+     * Gets the number of players ready to be taken.
+     *
+     * @return the number of pooled players
+     */
+    public int size() {
+        return players.size();
+    }
+
+    @Override
+    public void close() {
+        producer.interrupt();
+    }
+
+    private void produce(final PlayerFactory factory) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                players.put(factory.validPlayer());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOGGER.debug("Player pool {} stopped", Thread.currentThread().getName());
+    }
+}
@@ -1,26 +1,40 @@
 package util;
 
 import api.model.request.Player;
+import common.PropertiesReader;
+import common.PropertySnapshot;
 import net.datafaker.Faker;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Locale;
-
-import static common.PropertiesReader.getIntProperty;
-import static common.Properties.TEST_USER_MIN_AGE;
-import static common.Properties.TEST_USER_MAX_AGE;
-import static common.Properties.TEST_PASSWORD_MIN_LENGTH;
-import static common.Properties.TEST_PASSWORD_MAX_LENGTH;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Test data generator using Faker library for realistic test data.
  * Thread-safe implementation with proper logging.
+ * <p>
+ * Faker instances are not thread-safe and expensive to create, so they are borrowed from a pool for the duration
+ * of one generation instead of being bound to a thread. The pool only grows to the number of concurrent callers,
+ * which keeps it cheap when every test method runs on its own virtual thread.
+ * Logins and screen names come from {@link IdentityGenerator}, so they never collide across threads, shards or runs.
+ * <p>
+ * When {@code test.data.seed} is set, the borrowed Faker is reseeded for every player from the seed, the name of the
+ * running test method and the number of players it generated before, so each test gets the same ages, genders and
+ * passwords on every run, e.g. to replay its recorded exchanges.
  */
 public final class TestDataGenerator {
     
     private static final Logger LOGGER = LogManager.getLogger(TestDataGenerator.class);
-    private static final ThreadLocal<Faker> fakerThreadLocal = ThreadLocal.withInitial(() -> new Faker(Locale.ENGLISH));
+    private static final Queue<SeedableFaker> fakerPool = new ConcurrentLinkedQueue<>();
+    private static final ConcurrentMap<String, AtomicLong> testSequences = new ConcurrentHashMap<>();
+    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final String DIGITS = "0123456789";
     
     private TestDataGenerator() {
         // Private constructor to prevent instantiation
@@ -42,18 +56,34 @@ public final class TestDataGenerator {
      * @return a valid Player object
      */
     public static Player generateValidPlayer(final String role) {
-        Faker faker = fakerThreadLocal.get();
-        
-        Player player = new Player();
-        player.setAge(generateRandomAge());
-        player.setGender(generateRandomGender());
-        player.setLogin("testuser_" + faker.internet().userAgent());
-        player.setPassword(generateValidPassword());
-        player.setRole(role);
-        player.setScreenName("screen_" + faker.name().fullName());
-
-        LOGGER.debug("Generated valid player with role {}: {}", role, player);
-        return player;
+        SeedableFaker seedable = borrowFaker();
+        Faker faker = seedable.faker;
+        try {
+            Player player = new Player();
+            player.setAge(generateRandomAge(faker));
+            player.setGender(generateRandomGender(faker));
+            player.setLogin(IdentityGenerator.getInstance().nextLogin());
+            player.setPassword(generateValidPassword(faker));
+            player.setRole(role);
+            player.setScreenName(IdentityGenerator.getInstance().nextScreenName());
+
+            LOGGER.debug("Generated valid player with role {}: {}", role, player);
+            return player;
+        } finally {
+            fakerPool.offer(seedable);
+        }
+    }
+
+    private static SeedableFaker borrowFaker() {
+        SeedableFaker faker = fakerPool.poll();
+        if (faker == null) {
+            faker = new SeedableFaker();
+        }
+        String test = TestDataSeed.isSeeded() ? TestDataSeed.currentTest() : null;
+        if (test != null) {
+            faker.random.setSeed(TestDataSeed.next(testSequences, test));
+        }
+        return faker;
     }
 
     /**
@@ -63,7 +93,7 @@ public final class TestDataGenerator {
      */
     public static Player generatePlayerWithInvalidAgeYoung() {
         Player player = generateValidPlayer();
-        int minAge = getIntProperty(TEST_USER_MIN_AGE, 16);
+        int minAge = PropertiesReader.snapshot().getTestUserMinAge();
         player.setAge(minAge - 1);
         LOGGER.debug("Generated player with invalid young age: {}", player.getAge());
         return player;
@@ -76,7 +106,7 @@ public final class TestDataGenerator {
      */
     public static Player generatePlayerWithInvalidAgeOld() {
         Player player = generateValidPlayer();
-        int maxAge = getIntProperty(TEST_USER_MAX_AGE, 60);
+        int maxAge = PropertiesReader.snapshot().getTestUserMaxAge();
         player.setAge(maxAge + 1);
         LOGGER.debug("Generated player with invalid old age: {}", player.getAge());
         return player;
@@ -101,7 +131,7 @@ public final class TestDataGenerator {
      */
     public static Player generatePlayerWithInvalidPasswordShort() {
         Player player = generateValidPlayer();
-        int minLength = getIntProperty(TEST_PASSWORD_MIN_LENGTH, 7);
+        int minLength = PropertiesReader.snapshot().getTestPasswordMinLength();
         player.setPassword("abc" + (minLength - 4)); // Less than minimum length
         LOGGER.debug("Generated player with invalid short password: {}", player.getPassword());
         return player;
@@ -114,7 +144,7 @@ public final class TestDataGenerator {
      */
     public static Player generatePlayerWithInvalidPasswordLong() {
         Player player = generateValidPlayer();
-        int maxLength = getIntProperty(TEST_PASSWORD_MAX_LENGTH, 15);
+        int maxLength = PropertiesReader.snapshot().getTestPasswordMaxLength();
         player.setPassword("abcdefghijklmnop" + (maxLength + 5)); // More than maximum length
         LOGGER.debug("Generated player with invalid long password: {}", player.getPassword());
         return player;
@@ -186,45 +216,72 @@ public final class TestDataGenerator {
     /**
      * Generates a random age within the configured range.
      *
+     * @param faker the borrowed Faker
      * @return a random age
      */
-    private static int generateRandomAge() {
-        int maxAge = getIntProperty(TEST_USER_MAX_AGE, 60);
-        int minAge = getIntProperty(TEST_USER_MIN_AGE, 16);
+    private static int generateRandomAge(final Faker faker) {
+        PropertySnapshot properties = PropertiesReader.snapshot();
+        int maxAge = properties.getTestUserMaxAge();
+        int minAge = properties.getTestUserMinAge();
         
-        Faker faker = fakerThreadLocal.get();
         return faker.number().numberBetween(minAge, maxAge + 1);
     }
 
     /**
      * Generates a random gender.
      *
+     * @param faker the borrowed Faker
      * @return a random gender ("male" or "female")
      */
-    private static String generateRandomGender() {
-        Faker faker = fakerThreadLocal.get();
+    private static String generateRandomGender(final Faker faker) {
         return faker.options().option("male", "female");
     }
 
     /**
      * Generates a valid password meeting the requirements.
      *
+     * @param faker the borrowed Faker
      * @return a valid password
      */
-    private static String generateValidPassword() {
-        Faker faker = fakerThreadLocal.get();
-        
-        int maxPasswordLength = getIntProperty(TEST_PASSWORD_MAX_LENGTH, 15);
-        int minPasswordLength = getIntProperty(TEST_PASSWORD_MIN_LENGTH, 7);
+    private static String generateValidPassword(final Faker faker) {
+        PropertySnapshot properties = PropertiesReader.snapshot();
+        int maxPasswordLength = properties.getTestPasswordMaxLength();
+        int minPasswordLength = properties.getTestPasswordMinLength();
         
         int length = faker.number().numberBetween(minPasswordLength, maxPasswordLength + 1);
         
         // Ensure password contains both letters and numbers
-        String letters = faker.regexify("[a-zA-Z]{" + (length - 2) + "}");
-        String numbers = faker.regexify("[0-9]{2}");
+        String letters = randomCharacters(faker, LETTERS, length - 2);
+        String numbers = randomCharacters(faker, DIGITS, 2);
         
         // Shuffle the password
         String password = letters + numbers;
         return faker.regexify(password);
     }
+
+    /**
+     * Draws random characters from an alphabet. Unlike {@link Faker#regexify(String)}, which keeps a generator
+     * of its own per expression, it draws from the random source of the Faker, so it follows its seed.
+     *
+     * @param faker the borrowed Faker
+     * @param alphabet the characters to draw from
+     * @param count the number of characters
+     * @return the random characters
+     */
+    private static String randomCharacters(final Faker faker, final String alphabet, final int count) {
+        StringBuilder characters = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            characters.append(alphabet.charAt(faker.random().nextInt(alphabet.length())));
+        }
+        return characters.toString();
+    }
+
+    /**
+     * Faker together with the random source it draws from, so it can be reseeded when borrowed.
+     */
+    private static final class SeedableFaker {
+
+        private final Random random = new Random();
+        private final Faker faker = new Faker(Locale.ENGLISH, random);
+    }
 }
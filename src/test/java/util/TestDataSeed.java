@@ -0,0 +1,92 @@
+package util;
+
+import common.PropertiesReader;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static common.Properties.TEST_DATA_SEED;
+
+/**
+ * Seeds of the test data generated by each test method when {@code test.data.seed} is set.
+ * <p>
+ * Test methods run in parallel, so one seeded sequence shared by all of them would hand out its values in a
+ * different order on every run. Instead every test method draws from a sequence of its own, derived from the seed
+ * and its qualified name, so it gets the same data on every run with the same seed, whatever runs next to it.
+ */
+final class TestDataSeed {
+
+    private static final Long SEED = parse(PropertiesReader.getProperty(TEST_DATA_SEED));
+
+    private TestDataSeed() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Tells whether {@code test.data.seed} is set.
+     *
+     * @return true if the test data is seeded
+     */
+    static boolean isSeeded() {
+        return SEED != null;
+    }
+
+    /**
+     * Gets the qualified name of the test method running on the current thread.
+     *
+     * @return the name, or null if the thread is not running a TestNG test
+     */
+    static String currentTest() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        return result != null ? result.getMethod().getQualifiedName() : null;
+    }
+
+    /**
+     * Hashes a test name together with the seed.
+     *
+     * @param test the qualified test method name
+     * @return the hash
+     */
+    static long hash(final String test) {
+        long hash = SEED != null ? SEED : 0;
+        for (byte b : test.getBytes(StandardCharsets.UTF_8)) {
+            hash = mix(hash ^ b);
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the next seed of a sequence that belongs to one test method.
+     *
+     * @param sequences the sequence positions by test name, owned by the caller
+     * @param test the qualified test method name
+     * @return the seed
+     */
+    static long next(final ConcurrentMap<String, AtomicLong> sequences, final String test) {
+        return mix(hash(test) + sequences.computeIfAbsent(test, ignored -> new AtomicLong()).incrementAndGet());
+    }
+
+    /**
+     * SplitMix64 finalizer, spreading similar inputs over unrelated outputs.
+     */
+    private static long mix(final long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static Long parse(final String seed) {
+        if (seed == null || seed.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(seed.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Test data seed must be a number: " + seed, e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package suite;
+
+import org.testng.thread.IExecutorServiceFactory;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs every TestNG task on its own virtual thread instead of a sized pool of platform threads.
+ * The thread count of the suite still caps how many tasks run at once: tasks wait for a permit on their
+ * virtual thread, which costs no platform thread while waiting.
+ */
+public final class VirtualThreadExecutorServiceFactory implements IExecutorServiceFactory {
+
+    @Override
+    public ExecutorService create(final int corePoolSize, final int maximumPoolSize, final long keepAliveTime,
+                                  final TimeUnit unit, final BlockingQueue<Runnable> workQueue,
+                                  final ThreadFactory threadFactory) {
+        return new BoundedVirtualThreadExecutor(Math.max(1, maximumPoolSize));
+    }
+
+    /**
+     * Thread-per-task executor on virtual threads, limited to a number of concurrently running tasks.
+     */
+    private static final class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+
+        private final ExecutorService delegate = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("testng-virtual-", 0).factory());
+        private final Semaphore permits;
+
+        private BoundedVirtualThreadExecutor(final int maxConcurrency) {
+            this.permits = new Semaphore(maxConcurrency);
+        }
+
+        @Override
+        public void execute(final Runnable task) {
+            delegate.execute(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package suite;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.TestNG;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs TestNG suites with test methods, and so the {@code PlayerApiClient} calls they make, on virtual threads.
+ * Used by the {@code virtual-threads} Maven profile; the arguments are the suite XML files to run.
+ * Exits with the TestNG status, so failed tests fail the build.
+ */
+public final class VirtualThreadSuiteRunner {
+
+    private static final Logger LOGGER = LogManager.getLogger(VirtualThreadSuiteRunner.class);
+
+    private VirtualThreadSuiteRunner() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(final String[] args) {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Usage: VirtualThreadSuiteRunner <suite.xml>...");
+        }
+        List<String> suites = Arrays.asList(args);
+        LOGGER.info("Running suites {} on virtual threads with thread count {}", suites,
+                System.getProperty("thread.count"));
+
+        TestNG testng = new TestNG();
+        testng.setTestSuites(suites);
+        testng.setExecutorServiceFactory(new VirtualThreadExecutorServiceFactory());
+        testng.run();
+        System.exit(testng.getStatus());
+    }
+}